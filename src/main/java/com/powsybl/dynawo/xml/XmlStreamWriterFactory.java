@@ -21,6 +21,9 @@ import java.io.Writer;
  */
 public final class XmlStreamWriterFactory {
 
+    // the factory lookup is costly, and a configured factory is safe to be shared between threads
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
     private XmlStreamWriterFactory() {
     }
 
@@ -29,8 +32,7 @@ public final class XmlStreamWriterFactory {
     }
 
     public static XMLStreamWriter newInstance(Writer writer, boolean indent) throws XMLStreamException {
-        XMLOutputFactory factory = XMLOutputFactory.newInstance();
-        XMLStreamWriter xmlStreamWriter = factory.createXMLStreamWriter(writer);
+        XMLStreamWriter xmlStreamWriter = XML_OUTPUT_FACTORY.createXMLStreamWriter(writer);
         return withIndent(xmlStreamWriter, indent);
     }
 
@@ -39,8 +41,7 @@ public final class XmlStreamWriterFactory {
     }
 
     public static XMLStreamWriter newInstance(OutputStream os, boolean indent) throws XMLStreamException {
-        XMLOutputFactory factory = XMLOutputFactory.newInstance();
-        XMLStreamWriter xmlStreamWriter = factory.createXMLStreamWriter(os);
+        XMLStreamWriter xmlStreamWriter = XML_OUTPUT_FACTORY.createXMLStreamWriter(os);
         return withIndent(xmlStreamWriter, indent);
     }
 
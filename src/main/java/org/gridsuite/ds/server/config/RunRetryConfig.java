@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.config;
+
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Retry queues of the run lanes, where the runs not admitted by a worker wait for the requeue delay.
+ * <p>
+ * A run not admitted is published on the retry destination of its lane, see
+ * {@link org.gridsuite.ds.server.service.SimulationScheduler}, then expires from the retry queue after the delay
+ * and is dead-lettered through the default exchange to the queue of its lane, so that no consumer is held meanwhile.
+ * The high priority lane has its own shorter delay, an interactive run being retried as soon as possible.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Configuration
+public class RunRetryConfig {
+
+    public static final String RUN_GROUP = "dsGroup";
+
+    public static final String RUN_DESTINATION = "ds.run";
+    public static final String RUN_HIGH_PRIORITY_DESTINATION = "ds.run.high";
+
+    private static final String RETRY_SUFFIX = ".retry";
+
+    @Bean
+    public Declarables runRetryQueues(@Value("${powsybl-ws.rabbitmq.destination.prefix:}") String destinationPrefix,
+                                      @Value("${dynamic-simulation.worker.scheduler.requeue-delay:PT10S}") Duration requeueDelay,
+                                      @Value("${dynamic-simulation.worker.high-priority.requeue-delay:PT1S}") Duration highPriorityRequeueDelay) {
+        List<Declarable> declarables = new ArrayList<>();
+        addRetryQueue(declarables, destinationPrefix + RUN_DESTINATION, requeueDelay);
+        addRetryQueue(declarables, destinationPrefix + RUN_HIGH_PRIORITY_DESTINATION, highPriorityRequeueDelay);
+        return new Declarables(declarables);
+    }
+
+    private static void addRetryQueue(List<Declarable> declarables, String runDestination, Duration requeueDelay) {
+        // same exchange as the one declared by the binder for the retry output binding
+        TopicExchange retryExchange = new TopicExchange(runDestination + RETRY_SUFFIX);
+        Queue retryQueue = QueueBuilder.durable(runDestination + RETRY_SUFFIX + "." + RUN_GROUP)
+                .ttl((int) Math.min(Integer.MAX_VALUE, requeueDelay.toMillis()))
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(runDestination + "." + RUN_GROUP)
+                .build();
+        declarables.add(retryExchange);
+        declarables.add(retryQueue);
+        declarables.add(BindingBuilder.bind(retryQueue).to(retryExchange).with("#"));
+    }
+}
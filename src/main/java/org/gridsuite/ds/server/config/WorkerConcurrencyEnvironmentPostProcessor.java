@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.config;
+
+import org.apache.commons.logging.Log;
+import org.gridsuite.ds.server.utils.NodeResources;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Map;
+
+/**
+ * Set the number of concurrent consumers of the run bindings, i.e. the number of simulations run concurrently by this instance.
+ * <p>
+ * The concurrency is given by dynamic-simulation.worker.concurrency, or if not set, adjusted to the available processors
+ * and memory of the node, each run being expected to need the given number of processors and amount of memory.
+ * The reserved share of these slots consumes the high priority lane, the others the normal one, each lane getting at least
+ * one slot, so that the number of runs stays bounded by the concurrency. With a single slot, none can be reserved: the normal
+ * lane keeps it and the high priority lane is still consumed by one consumer, a binding needing at least one, up to 2 runs
+ * being then in progress.
+ * A concurrency set directly on a binding is kept as is.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public class WorkerConcurrencyEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    public static final String RUN_CONCURRENCY_PROPERTY = "spring.cloud.stream.bindings.consumeRun-in-0.consumer.concurrency";
+    public static final String RUN_HIGH_PRIORITY_CONCURRENCY_PROPERTY = "spring.cloud.stream.bindings.consumeRunHigh-in-0.consumer.concurrency";
+
+    private static final String PROPERTY_SOURCE_NAME = "dsWorkerConcurrency";
+
+    private final Log log;
+
+    public WorkerConcurrencyEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+        this.log = logFactory.getLog(WorkerConcurrencyEnvironmentPostProcessor.class);
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (environment.containsProperty(RUN_CONCURRENCY_PROPERTY) && environment.containsProperty(RUN_HIGH_PRIORITY_CONCURRENCY_PROPERTY)) {
+            return;
+        }
+
+        int concurrency = environment.getProperty("dynamic-simulation.worker.concurrency", Integer.class, 0);
+        if (concurrency <= 0) {
+            int cpusPerRun = environment.getProperty("dynamic-simulation.worker.cpus-per-run", Integer.class, 2);
+            DataSize memoryPerRun = DataSize.parse(environment.getProperty("dynamic-simulation.worker.memory-per-run", "4GB"));
+            int maxConcurrency = environment.getProperty("dynamic-simulation.worker.max-concurrency", Integer.class, 8);
+            concurrency = computeConcurrency(NodeResources.getAvailableProcessors(), NodeResources.getAvailableMemory(),
+                    cpusPerRun, memoryPerRun.toBytes(), maxConcurrency);
+        }
+        double reservedShare = environment.getProperty("dynamic-simulation.worker.high-priority.reserved-share", Double.class, 0.25);
+        int reservedConcurrency = computeReservedConcurrency(concurrency, reservedShare);
+        int normalConcurrency = concurrency - reservedConcurrency;
+        // a binding needs at least one consumer, with no slot reserved the high priority lane is consumed over the concurrency
+        int highPriorityConcurrency = Math.max(1, reservedConcurrency);
+        if (reservedConcurrency == 0) {
+            log.warn("Dynamic simulation worker concurrency of " + concurrency + " exceeded by the consumer of the high priority lane, no slot can be reserved to it");
+        }
+        log.info("Dynamic simulation worker concurrency: " + normalConcurrency + " normal, " + highPriorityConcurrency + " high priority");
+
+        // added last, so that a value set in any configuration takes precedence
+        environment.getPropertySources().addLast(new MapPropertySource(PROPERTY_SOURCE_NAME, Map.of(
+                RUN_CONCURRENCY_PROPERTY, normalConcurrency,
+                RUN_HIGH_PRIORITY_CONCURRENCY_PROPERTY, highPriorityConcurrency)));
+    }
+
+    /**
+     * @return the slots reserved to the high priority lane out of the given concurrency, at least 1 and leaving at least 1
+     * to the normal lane, none if the concurrency is 1
+     */
+    static int computeReservedConcurrency(int concurrency, double reservedShare) {
+        if (concurrency <= 1) {
+            return 0;
+        }
+        long reserved = Math.max(1, Math.round(concurrency * Math.min(1, Math.max(0, reservedShare))));
+        return (int) Math.min(reserved, concurrency - 1L);
+    }
+
+    /**
+     * @return the number of runs fitting the available processors and memory, at least 1, an unknown memory (0) being ignored
+     */
+    static int computeConcurrency(int availableProcessors, long availableMemory, int cpusPerRun, long memoryPerRun, int maxConcurrency) {
+        long concurrencyByCpu = availableProcessors / Math.max(1, cpusPerRun);
+        long concurrencyByMemory = availableMemory > 0 && memoryPerRun > 0 ? availableMemory / memoryPerRun : Long.MAX_VALUE;
+        return (int) Math.max(1, Math.min(maxConcurrency, Math.min(concurrencyByCpu, concurrencyByMemory)));
+    }
+}
@@ -15,9 +15,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.apache.commons.collections4.CollectionUtils;
 import org.gridsuite.computation.dto.ReportInfos;
 import org.gridsuite.ds.server.dto.DynamicSimulationStatus;
+import org.gridsuite.ds.server.dto.RunPriority;
 import org.gridsuite.ds.server.dto.event.EventInfos;
+import org.gridsuite.ds.server.repository.ResultArtifactType;
 import org.gridsuite.ds.server.service.DynamicSimulationResultService;
 import org.gridsuite.ds.server.service.DynamicSimulationService;
+import org.gridsuite.ds.server.service.ResultArtifactService.ResultArtifact;
 import org.gridsuite.ds.server.service.contexts.DynamicSimulationRunContext;
 import org.gridsuite.ds.server.service.parameters.ParametersService;
 import org.springframework.core.io.Resource;
@@ -30,6 +33,8 @@ import java.util.UUID;
 
 import static org.gridsuite.computation.service.NotificationService.HEADER_USER_ID;
 import static org.gridsuite.ds.server.DynamicSimulationApi.API_VERSION;
+import static org.gridsuite.ds.server.service.contexts.DynamicSimulationResultContext.HEADER_BATCH_ID;
+import static org.gridsuite.ds.server.utils.ArtifactCodec.HEADER_ARTIFACT_CODEC;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 /**
@@ -63,6 +68,8 @@ public class DynamicSimulationController {
                                           @RequestParam(name = "reportType", required = false, defaultValue = "DynamicSimulation") String reportType,
                                           @RequestParam(name = "debug", required = false, defaultValue = "false") boolean debug,
                                           @RequestParam(name = "parametersUuid") UUID parametersUuid,
+                                          @Parameter(description = "HIGH for interactive runs, NORMAL for batch ones") @RequestParam(name = "priority", required = false, defaultValue = "NORMAL") RunPriority priority,
+                                          @Parameter(description = "Stamp of the network modifications, runs on the same stamped variant share a cached network") @RequestParam(name = "networkStamp", required = false) String networkStamp,
                                           @RequestBody List<EventInfos> events,
                                           @RequestHeader(HEADER_USER_ID) String userId) {
 
@@ -75,11 +82,45 @@ public class DynamicSimulationController {
             parametersUuid,
             events,
             debug);
+        dynamicSimulationRunContext.setPriority(priority);
+        dynamicSimulationRunContext.setNetworkStamp(networkStamp);
 
         UUID resultUuid = dynamicSimulationService.runAndSaveResult(dynamicSimulationRunContext);
         return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(resultUuid);
     }
 
+    @PostMapping(value = "/networks/{networkUuid}/run-batch", produces = "application/json")
+    @Operation(summary = "run a batch of dynamic simulations differing only by their events")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Run the batch of dynamic simulations, the result uuids are in the order of the events lists")})
+    public ResponseEntity<List<UUID>> runBatch(@PathVariable("networkUuid") UUID networkUuid,
+                                               @RequestParam(name = "variantId", required = false) String variantId,
+                                               @RequestParam(name = "receiver", required = false) String receiver,
+                                               @RequestParam(name = "parametersUuid") UUID parametersUuid,
+                                               @Parameter(description = "HIGH for interactive runs, NORMAL for batch ones") @RequestParam(name = "priority", required = false, defaultValue = "NORMAL") RunPriority priority,
+                                               @Parameter(description = "Stamp of the network modifications, runs on the same stamped variant share a cached network") @RequestParam(name = "networkStamp", required = false) String networkStamp,
+                                               @Parameter(description = "Run the whole batch in parallel on a single worker") @RequestParam(name = "sweep", required = false, defaultValue = "false") boolean sweep,
+                                               @Parameter(description = "Events of each run") @RequestBody List<List<EventInfos>> eventsList,
+                                               @RequestHeader(HEADER_USER_ID) String userId) {
+
+        // runs of a batch are not reported, a report per run could not be told apart by the caller
+        DynamicSimulationRunContext dynamicSimulationRunContext = parametersService.createRunContext(
+            networkUuid,
+            variantId,
+            receiver,
+            ReportInfos.builder().build(),
+            userId,
+            parametersUuid,
+            List.of(),
+            false);
+        dynamicSimulationRunContext.setPriority(priority);
+        dynamicSimulationRunContext.setNetworkStamp(networkStamp);
+
+        DynamicSimulationService.BatchRunInfos batchRunInfos = dynamicSimulationService.runAndSaveResults(dynamicSimulationRunContext, eventsList, sweep);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+                .header(HEADER_BATCH_ID, batchRunInfos.batchId().toString())
+                .body(batchRunInfos.resultUuids());
+    }
+
     @GetMapping(value = "/results/{resultUuid}/timeseries", produces = "application/json")
     @Operation(summary = "Get a dynamic simulation result from the database")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The dynamic simulation result"),
@@ -113,14 +154,13 @@ public class DynamicSimulationController {
     }
 
     @GetMapping(value = "/results/{resultUuid}/output-state", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
-    @Operation(summary = "Get the dynamic simulation output state in gzip format from the database")
+    @Operation(summary = "Get the dynamic simulation output state encoded with the codec given by the X-Artifact-Codec header (gzip format unless NONE), HTTP range requests are supported")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The dynamic simulation output state"),
+        @ApiResponse(responseCode = "206", description = "The requested range of the dynamic simulation output state"),
         @ApiResponse(responseCode = "204", description = "Dynamic simulation output state is empty"),
         @ApiResponse(responseCode = "404", description = "Dynamic simulation result uuid has not been found")})
-    public ResponseEntity<byte[]> getOutputState(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid) {
-        byte[] result = dynamicSimulationResultService.getOutputState(resultUuid);
-        return result != null ? ResponseEntity.ok().contentType(MediaType.APPLICATION_OCTET_STREAM).body(result) :
-                ResponseEntity.noContent().build();
+    public ResponseEntity<Resource> getOutputState(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid) {
+        return toArtifactResponse(dynamicSimulationResultService.getArtifact(resultUuid, ResultArtifactType.OUTPUT_STATE));
     }
 
     @GetMapping(value = "/results/{resultUuid}/dynamic-model", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
@@ -128,10 +168,8 @@ public class DynamicSimulationController {
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The dynamic simulation dynamic model"),
         @ApiResponse(responseCode = "204", description = "Dynamic simulation dynamic model is empty"),
         @ApiResponse(responseCode = "404", description = "Dynamic simulation result uuid has not been found")})
-    public ResponseEntity<byte[]> getDynamicModel(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid) {
-        byte[] result = dynamicSimulationResultService.getDynamicModel(resultUuid);
-        return result != null ? ResponseEntity.ok().contentType(MediaType.APPLICATION_OCTET_STREAM).body(result) :
-                ResponseEntity.noContent().build();
+    public ResponseEntity<Resource> getDynamicModel(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid) {
+        return toArtifactResponse(dynamicSimulationResultService.getArtifact(resultUuid, ResultArtifactType.DYNAMIC_MODEL));
     }
 
     @GetMapping(value = "/results/{resultUuid}/parameters", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
@@ -139,9 +177,15 @@ public class DynamicSimulationController {
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The dynamic simulation parameters"),
         @ApiResponse(responseCode = "204", description = "Dynamic simulation parameters is empty"),
         @ApiResponse(responseCode = "404", description = "Dynamic simulation result uuid has not been found")})
-    public ResponseEntity<byte[]> getParameters(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid) {
-        byte[] result = dynamicSimulationResultService.getParameters(resultUuid);
-        return result != null ? ResponseEntity.ok().contentType(MediaType.APPLICATION_OCTET_STREAM).body(result) :
+    public ResponseEntity<Resource> getParameters(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid) {
+        return toArtifactResponse(dynamicSimulationResultService.getArtifact(resultUuid, ResultArtifactType.PARAMETERS));
+    }
+
+    private static ResponseEntity<Resource> toArtifactResponse(ResultArtifact artifact) {
+        return artifact != null ? ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HEADER_ARTIFACT_CODEC, artifact.codec().name())
+                .body(artifact.resource()) :
                 ResponseEntity.noContent().build();
     }
 
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.dto;
+
+/**
+ * Priority of a run: HIGH for interactive runs, sent to a separate lane with reserved worker slots and memory,
+ * NORMAL for the others, e.g. batch studies
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public enum RunPriority {
+    NORMAL,
+    HIGH
+}
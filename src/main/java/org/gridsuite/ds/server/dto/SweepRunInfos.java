@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.dto;
+
+import org.gridsuite.ds.server.dto.event.EventInfos;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Run of a sweep, i.e. of a batch run in parallel by a single worker, differing from the other runs only by its events
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public record SweepRunInfos(UUID resultUuid, List<EventInfos> events) {
+}
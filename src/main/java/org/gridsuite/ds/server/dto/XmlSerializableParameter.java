@@ -7,6 +7,7 @@
 
 package org.gridsuite.ds.server.dto;
 
+import com.powsybl.dynawo.parameters.ParametersSet;
 import com.powsybl.dynawo.xml.XmlStreamWriterFactory;
 
 import javax.xml.stream.XMLStreamException;
@@ -35,8 +36,30 @@ public interface XmlSerializableParameter {
         STRING
     }
 
+    /**
+     * Receives the parameters of a {@link XmlSerializableParameter}, one by one
+     */
+    @FunctionalInterface
+    interface ParameterWriter<E extends Exception> {
+        void write(ParameterType type, String name, String value) throws E;
+    }
+
     void writeParameter(XMLStreamWriter writer) throws XMLStreamException;
 
+    <E extends Exception> void writeParameters(ParameterWriter<E> parameterWriter) throws E;
+
+    /**
+     * Build a parameters set directly from the given object, without any xml round-trip
+     */
+    static ParametersSet toParametersSet(String parametersSetId, XmlSerializableParameter object) {
+        Objects.requireNonNull(parametersSetId);
+        Objects.requireNonNull(object);
+        ParametersSet parametersSet = new ParametersSet(parametersSetId);
+        object.writeParameters((type, name, value) ->
+                parametersSet.addParameter(name, com.powsybl.dynawo.parameters.ParameterType.valueOf(type.name()), value));
+        return parametersSet;
+    }
+
     static void writeParameter(XMLStreamWriter writer, ParameterType type, String name, String value) throws XMLStreamException {
         writer.writeEmptyElement("par");
         writer.writeAttribute("type", type.toString());
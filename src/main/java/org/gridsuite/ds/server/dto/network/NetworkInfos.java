@@ -93,28 +93,31 @@ public class NetworkInfos implements XmlSerializableParameter {
     public void writeParameter(XMLStreamWriter writer) throws XMLStreamException {
         writer.writeStartElement(DYN_BASE_URI, "set");
         writer.writeAttribute("id", NETWORK_ID);
-
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, CAPACITOR_NO_RECLOSING_DELAY, Double.toString(capacitorNoReclosingDelay));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, BOUNDARY_LINE_CURRENT_LIMIT_MAX_TIME_OPERATION, Double.toString(boundaryLineCurrentLimitMaxTimeOperation));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, LINE_CURRENT_LIMIT_MAX_TIME_OPERATION, Double.toString(lineCurrentLimitMaxTimeOperation));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, LOAD_TP, Double.toString(loadTp));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, LOAD_TQ, Double.toString(loadTq));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, LOAD_ALPHA, Double.toString(loadAlpha));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, LOAD_ALPHA_LONG, Double.toString(loadAlphaLong));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, LOAD_BETA, Double.toString(loadBeta));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, LOAD_BETA_LONG, Double.toString(loadBetaLong));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.BOOL, LOAD_IS_CONTROLLABLE, Boolean.toString(loadIsControllable));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.BOOL, LOAD_IS_RESTORATIVE, Boolean.toString(loadIsRestorative));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, LOAD_Z_PMAX, Double.toString(loadZPMax));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, LOAD_Z_QMAX, Double.toString(loadZQMax));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, REACTANCE_NO_RECLOSING_DELAY, Double.toString(reactanceNoReclosingDelay));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, TRANSFORMER_CURRENT_LIMIT_MAX_TIME_OPERATION, Double.toString(transformerCurrentLimitMaxTimeOperation));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, TRANSFORMER_T1ST_HT, Double.toString(transformerT1StHT));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, TRANSFORMER_T1ST_THT, Double.toString(transformerT1StTHT));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, TRANSFORMER_TNEXT_HT, Double.toString(transformerTNextHT));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, TRANSFORMER_TNEXT_THT, Double.toString(transformerTNextTHT));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, TRANSFORMER_TO_LV, Double.toString(transformerTolV));
-
+        writeParameters((type, name, value) -> XmlSerializableParameter.writeParameter(writer, type, name, value));
         writer.writeEndElement();
     }
+
+    @Override
+    public <E extends Exception> void writeParameters(ParameterWriter<E> parameterWriter) throws E {
+        parameterWriter.write(ParameterType.DOUBLE, CAPACITOR_NO_RECLOSING_DELAY, Double.toString(capacitorNoReclosingDelay));
+        parameterWriter.write(ParameterType.DOUBLE, BOUNDARY_LINE_CURRENT_LIMIT_MAX_TIME_OPERATION, Double.toString(boundaryLineCurrentLimitMaxTimeOperation));
+        parameterWriter.write(ParameterType.DOUBLE, LINE_CURRENT_LIMIT_MAX_TIME_OPERATION, Double.toString(lineCurrentLimitMaxTimeOperation));
+        parameterWriter.write(ParameterType.DOUBLE, LOAD_TP, Double.toString(loadTp));
+        parameterWriter.write(ParameterType.DOUBLE, LOAD_TQ, Double.toString(loadTq));
+        parameterWriter.write(ParameterType.DOUBLE, LOAD_ALPHA, Double.toString(loadAlpha));
+        parameterWriter.write(ParameterType.DOUBLE, LOAD_ALPHA_LONG, Double.toString(loadAlphaLong));
+        parameterWriter.write(ParameterType.DOUBLE, LOAD_BETA, Double.toString(loadBeta));
+        parameterWriter.write(ParameterType.DOUBLE, LOAD_BETA_LONG, Double.toString(loadBetaLong));
+        parameterWriter.write(ParameterType.BOOL, LOAD_IS_CONTROLLABLE, Boolean.toString(loadIsControllable));
+        parameterWriter.write(ParameterType.BOOL, LOAD_IS_RESTORATIVE, Boolean.toString(loadIsRestorative));
+        parameterWriter.write(ParameterType.DOUBLE, LOAD_Z_PMAX, Double.toString(loadZPMax));
+        parameterWriter.write(ParameterType.DOUBLE, LOAD_Z_QMAX, Double.toString(loadZQMax));
+        parameterWriter.write(ParameterType.DOUBLE, REACTANCE_NO_RECLOSING_DELAY, Double.toString(reactanceNoReclosingDelay));
+        parameterWriter.write(ParameterType.DOUBLE, TRANSFORMER_CURRENT_LIMIT_MAX_TIME_OPERATION, Double.toString(transformerCurrentLimitMaxTimeOperation));
+        parameterWriter.write(ParameterType.DOUBLE, TRANSFORMER_T1ST_HT, Double.toString(transformerT1StHT));
+        parameterWriter.write(ParameterType.DOUBLE, TRANSFORMER_T1ST_THT, Double.toString(transformerT1StTHT));
+        parameterWriter.write(ParameterType.DOUBLE, TRANSFORMER_TNEXT_HT, Double.toString(transformerTNextHT));
+        parameterWriter.write(ParameterType.DOUBLE, TRANSFORMER_TNEXT_THT, Double.toString(transformerTNextTHT));
+        parameterWriter.write(ParameterType.DOUBLE, TRANSFORMER_TO_LV, Double.toString(transformerTolV));
+    }
 }
@@ -109,28 +109,36 @@ public abstract class AbstractSolverInfos implements SolverInfos {
 
     @Override
     public void writeParameter(XMLStreamWriter writer) throws XMLStreamException {
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, F_NORM_TOL_ALG, Double.toString(fNormTolAlg));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, INITIAL_ADD_TOL_ALG, Double.toString(initialAddTolAlg));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, SC_STEP_TOL_ALG, Double.toString(scStepTolAlg));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, MX_NEW_T_STEP_ALG, Double.toString(mxNewTStepAlg));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.INT, MSBSET_ALG, Integer.toString(msbsetAlg));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.INT, MX_ITER_ALG, Integer.toString(mxIterAlg));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.INT, PRINT_FL_ALG, Integer.toString(printFlAlg));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, F_NORM_TOL_ALG_J, Double.toString(fNormTolAlgJ));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, INITIAL_ADD_TOL_ALG_J, Double.toString(initialAddTolAlgJ));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, SC_STEP_TOL_ALG_J, Double.toString(scStepTolAlgJ));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, MX_NEWT_STEP_ALG_J, Double.toString(mxNewTStepAlgJ));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.INT, MSBSET_ALG_J, Integer.toString(msbsetAlgJ));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.INT, MX_ITER_ALG_J, Integer.toString(mxIterAlgJ));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.INT, PRINT_FL_ALG_J, Integer.toString(printFlAlgJ));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, F_NORM_TOL_ALG_INIT, Double.toString(fNormTolAlgInit));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, INITIAL_ADD_TOL_ALG_INIT, Double.toString(initialAddTolAlgInit));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, SC_STEP_TOL_ALG_INIT, Double.toString(scStepTolAlgInit));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, MX_NEW_T_STEP_ALG_INIT, Double.toString(mxNewTStepAlgInit));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.INT, MSBSET_ALG_INIT, Integer.toString(msbsetAlgInit));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.INT, MX_ITER_ALG_INIT, Integer.toString(mxIterAlgInit));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.INT, PRINT_FL_ALG_INIT, Integer.toString(printFlAlgInit));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.INT, MAXIMUM_NUMBER_SLOW_STEP_INCREASE, Integer.toString(maximumNumberSlowStepIncrease));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, MINIMAL_ACCEPTABLE_STEP, Double.toString(minimalAcceptableStep));
+        writer.writeStartElement(DYN_BASE_URI, "set");
+        writer.writeAttribute("id", getType().name());
+        writeParameters((type, name, value) -> XmlSerializableParameter.writeParameter(writer, type, name, value));
+        writer.writeEndElement();
+    }
+
+    @Override
+    public <E extends Exception> void writeParameters(ParameterWriter<E> parameterWriter) throws E {
+        parameterWriter.write(ParameterType.DOUBLE, F_NORM_TOL_ALG, Double.toString(fNormTolAlg));
+        parameterWriter.write(ParameterType.DOUBLE, INITIAL_ADD_TOL_ALG, Double.toString(initialAddTolAlg));
+        parameterWriter.write(ParameterType.DOUBLE, SC_STEP_TOL_ALG, Double.toString(scStepTolAlg));
+        parameterWriter.write(ParameterType.DOUBLE, MX_NEW_T_STEP_ALG, Double.toString(mxNewTStepAlg));
+        parameterWriter.write(ParameterType.INT, MSBSET_ALG, Integer.toString(msbsetAlg));
+        parameterWriter.write(ParameterType.INT, MX_ITER_ALG, Integer.toString(mxIterAlg));
+        parameterWriter.write(ParameterType.INT, PRINT_FL_ALG, Integer.toString(printFlAlg));
+        parameterWriter.write(ParameterType.DOUBLE, F_NORM_TOL_ALG_J, Double.toString(fNormTolAlgJ));
+        parameterWriter.write(ParameterType.DOUBLE, INITIAL_ADD_TOL_ALG_J, Double.toString(initialAddTolAlgJ));
+        parameterWriter.write(ParameterType.DOUBLE, SC_STEP_TOL_ALG_J, Double.toString(scStepTolAlgJ));
+        parameterWriter.write(ParameterType.DOUBLE, MX_NEWT_STEP_ALG_J, Double.toString(mxNewTStepAlgJ));
+        parameterWriter.write(ParameterType.INT, MSBSET_ALG_J, Integer.toString(msbsetAlgJ));
+        parameterWriter.write(ParameterType.INT, MX_ITER_ALG_J, Integer.toString(mxIterAlgJ));
+        parameterWriter.write(ParameterType.INT, PRINT_FL_ALG_J, Integer.toString(printFlAlgJ));
+        parameterWriter.write(ParameterType.DOUBLE, F_NORM_TOL_ALG_INIT, Double.toString(fNormTolAlgInit));
+        parameterWriter.write(ParameterType.DOUBLE, INITIAL_ADD_TOL_ALG_INIT, Double.toString(initialAddTolAlgInit));
+        parameterWriter.write(ParameterType.DOUBLE, SC_STEP_TOL_ALG_INIT, Double.toString(scStepTolAlgInit));
+        parameterWriter.write(ParameterType.DOUBLE, MX_NEW_T_STEP_ALG_INIT, Double.toString(mxNewTStepAlgInit));
+        parameterWriter.write(ParameterType.INT, MSBSET_ALG_INIT, Integer.toString(msbsetAlgInit));
+        parameterWriter.write(ParameterType.INT, MX_ITER_ALG_INIT, Integer.toString(mxIterAlgInit));
+        parameterWriter.write(ParameterType.INT, PRINT_FL_ALG_INIT, Integer.toString(printFlAlgInit));
+        parameterWriter.write(ParameterType.INT, MAXIMUM_NUMBER_SLOW_STEP_INCREASE, Integer.toString(maximumNumberSlowStepIncrease));
+        parameterWriter.write(ParameterType.DOUBLE, MINIMAL_ACCEPTABLE_STEP, Double.toString(minimalAcceptableStep));
     }
 }
@@ -11,10 +11,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
-import org.gridsuite.ds.server.dto.XmlSerializableParameter;
-
-import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.XMLStreamWriter;
 
 /**
  * @author Thang PHAM <quyet-thang.pham at rte-france.com>
@@ -45,18 +41,14 @@ public class IdaSolverInfos extends AbstractSolverInfos {
     private double relAccuracy;
 
     @Override
-    public void writeParameter(XMLStreamWriter writer) throws XMLStreamException {
-        writer.writeStartElement(DYN_BASE_URI, "set");
-        writer.writeAttribute("id", getType().name());
-
-        XmlSerializableParameter.writeParameter(writer, ParameterType.INT, SOLVER_ORDER, Integer.toString(order));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, INIT_STEP, Double.toString(initStep));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, MIN_STEP, Double.toString(minStep));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, MAX_STEP, Double.toString(maxStep));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, ABS_ACCURACY, Double.toString(absAccuracy));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, REL_ACCURACY, Double.toString(relAccuracy));
-
-        super.writeParameter(writer);
-        writer.writeEndElement();
+    public <E extends Exception> void writeParameters(ParameterWriter<E> parameterWriter) throws E {
+        parameterWriter.write(ParameterType.INT, SOLVER_ORDER, Integer.toString(order));
+        parameterWriter.write(ParameterType.DOUBLE, INIT_STEP, Double.toString(initStep));
+        parameterWriter.write(ParameterType.DOUBLE, MIN_STEP, Double.toString(minStep));
+        parameterWriter.write(ParameterType.DOUBLE, MAX_STEP, Double.toString(maxStep));
+        parameterWriter.write(ParameterType.DOUBLE, ABS_ACCURACY, Double.toString(absAccuracy));
+        parameterWriter.write(ParameterType.DOUBLE, REL_ACCURACY, Double.toString(relAccuracy));
+
+        super.writeParameters(parameterWriter);
     }
 }
@@ -12,10 +12,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
-import org.gridsuite.ds.server.dto.XmlSerializableParameter;
-
-import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.XMLStreamWriter;
 
 /**
  * @author Thang PHAM <quyet-thang.pham at rte-france.com>
@@ -89,30 +85,26 @@ public class SimSolverInfos extends AbstractSolverInfos {
     private String minimumModeChangeTypeForAlgebraicRestorationInit;
 
     @Override
-    public void writeParameter(XMLStreamWriter writer) throws XMLStreamException {
-        writer.writeStartElement(DYN_BASE_URI, "set");
-        writer.writeAttribute("id", getType().name());
-
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, H_MIN, Double.toString(hMin));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, H_MAX, Double.toString(hMax));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, K_REDUCE_STEP, Double.toString(kReduceStep));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.INT, MAX_NEWTON_TRY, Integer.toString(maxNewtonTry));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.STRING, LINEAR_SOLVER_NAME, linearSolverName);
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, F_NORM_TOL, Double.toString(fNormTol));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, INITIAL_ADD_TOL, Double.toString(initialAddTol));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, SC_STEP_TOL, Double.toString(scStepTol));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.DOUBLE, MX_NEW_T_STEP, Double.toString(mxNewTStep));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.INT, MSB_SET, Integer.toString(msbset));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.INT, MX_ITER, Integer.toString(mxIter));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.INT, PRINT_FL, Integer.toString(printFl));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.BOOL, OPTIMIZE_ALGEBRAIC_RESIDUALS_EVALUATIONS, Boolean.toString(optimizeAlgebraicResidualsEvaluations));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.BOOL, SKIP_NR_IF_INITIAL_GUESS_OK, Boolean.toString(skipNRIfInitialGuessOK));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.BOOL, ENABLE_SILENT_Z, Boolean.toString(enableSilentZ));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.BOOL, OPTIMIZE_RE_INIT_ALGEBRAIC_RESIDUALS_EVALUATIONS, Boolean.toString(optimizeReInitAlgebraicResidualsEvaluations));
-        XmlSerializableParameter.writeParameter(writer, ParameterType.STRING, MINIMUM_MODE_CHANGE_TYPE_FOR_ALGEBRAIC_RESTORATION, minimumModeChangeTypeForAlgebraicRestoration);
-        XmlSerializableParameter.writeParameter(writer, ParameterType.STRING, MINIMUM_MODE_CHANGE_TYPE_FOR_ALGEBRAIC_RESTORATION_INIT, minimumModeChangeTypeForAlgebraicRestorationInit);
-
-        super.writeParameter(writer);
-        writer.writeEndElement();
+    public <E extends Exception> void writeParameters(ParameterWriter<E> parameterWriter) throws E {
+        parameterWriter.write(ParameterType.DOUBLE, H_MIN, Double.toString(hMin));
+        parameterWriter.write(ParameterType.DOUBLE, H_MAX, Double.toString(hMax));
+        parameterWriter.write(ParameterType.DOUBLE, K_REDUCE_STEP, Double.toString(kReduceStep));
+        parameterWriter.write(ParameterType.INT, MAX_NEWTON_TRY, Integer.toString(maxNewtonTry));
+        parameterWriter.write(ParameterType.STRING, LINEAR_SOLVER_NAME, linearSolverName);
+        parameterWriter.write(ParameterType.DOUBLE, F_NORM_TOL, Double.toString(fNormTol));
+        parameterWriter.write(ParameterType.DOUBLE, INITIAL_ADD_TOL, Double.toString(initialAddTol));
+        parameterWriter.write(ParameterType.DOUBLE, SC_STEP_TOL, Double.toString(scStepTol));
+        parameterWriter.write(ParameterType.DOUBLE, MX_NEW_T_STEP, Double.toString(mxNewTStep));
+        parameterWriter.write(ParameterType.INT, MSB_SET, Integer.toString(msbset));
+        parameterWriter.write(ParameterType.INT, MX_ITER, Integer.toString(mxIter));
+        parameterWriter.write(ParameterType.INT, PRINT_FL, Integer.toString(printFl));
+        parameterWriter.write(ParameterType.BOOL, OPTIMIZE_ALGEBRAIC_RESIDUALS_EVALUATIONS, Boolean.toString(optimizeAlgebraicResidualsEvaluations));
+        parameterWriter.write(ParameterType.BOOL, SKIP_NR_IF_INITIAL_GUESS_OK, Boolean.toString(skipNRIfInitialGuessOK));
+        parameterWriter.write(ParameterType.BOOL, ENABLE_SILENT_Z, Boolean.toString(enableSilentZ));
+        parameterWriter.write(ParameterType.BOOL, OPTIMIZE_RE_INIT_ALGEBRAIC_RESIDUALS_EVALUATIONS, Boolean.toString(optimizeReInitAlgebraicResidualsEvaluations));
+        parameterWriter.write(ParameterType.STRING, MINIMUM_MODE_CHANGE_TYPE_FOR_ALGEBRAIC_RESTORATION, minimumModeChangeTypeForAlgebraicRestoration);
+        parameterWriter.write(ParameterType.STRING, MINIMUM_MODE_CHANGE_TYPE_FOR_ALGEBRAIC_RESTORATION_INIT, minimumModeChangeTypeForAlgebraicRestorationInit);
+
+        super.writeParameters(parameterWriter);
     }
 }
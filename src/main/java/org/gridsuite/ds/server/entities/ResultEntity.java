@@ -23,7 +23,7 @@ import java.util.UUID;
 @Table(name = "result")
 @NoArgsConstructor
 @Entity
-public class ResultEntity implements Serializable {
+public class ResultEntity extends AbstractManuallyAssignedIdentifierEntity<UUID> implements Serializable {
 
     public interface BasicFields {
         DynamicSimulationStatus getStatus();
@@ -35,18 +35,6 @@ public class ResultEntity implements Serializable {
         String getDebugFileLocation();
     }
 
-    public interface OutputState {
-        byte[] getOutputState();
-    }
-
-    public interface Parameters {
-        byte[] getParameters();
-    }
-
-    public interface DynamicModel {
-        byte[] getDynamicModel();
-    }
-
     public ResultEntity(UUID id, UUID timeSeriesId, UUID timeLineId, DynamicSimulationStatus status, String debugFileLocation, byte[] outputState, byte[] parameters, byte[] dynamicModel) {
         this.id = id;
         this.timeSeriesId = timeSeriesId;
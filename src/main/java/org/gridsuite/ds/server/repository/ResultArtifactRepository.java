@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.repository;
+
+import org.gridsuite.ds.server.utils.ArtifactCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Streaming access to the large binary contents of the result table.
+ * <p>
+ * Contents are read by bounded chunks, each one with its own query, and written once from a stream,
+ * so that they are never fully loaded into the heap.
+ * <p>
+ * The result_artifact table records the length and codec of each content, contents offloaded to the object storage
+ * being only referenced by their key in this table.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Repository
+public class ResultArtifactRepository {
+
+    /**
+     * Stored content description, the key and the checksum are only set for a content offloaded to the object storage
+     */
+    public record ArtifactInfos(String s3Key, long length, String checksum, ArtifactCodec codec) {
+
+        public boolean isOffloaded() {
+            return s3Key != null;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int chunkSize;
+
+    public ResultArtifactRepository(JdbcTemplate jdbcTemplate,
+                                    @Value("${dynamic-simulation.result.artifact.chunk-size:1MB}") DataSize chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = Math.toIntExact(chunkSize.toBytes());
+    }
+
+    /**
+     * @return the length in bytes of the content, null if the result has no such content
+     */
+    public Long getLength(UUID resultUuid, ResultArtifactType type) {
+        List<Long> lengths = jdbcTemplate.queryForList(
+                "SELECT octet_length(" + type.getColumnName() + ") FROM result WHERE result_uuid = ?", Long.class, resultUuid);
+        return lengths.isEmpty() ? null : lengths.get(0);
+    }
+
+    /**
+     * @return at most length bytes of the content starting from the given offset, binary columns are limited to 1GB
+     * so that positions fit in an int as expected by substring
+     */
+    public byte[] readChunk(UUID resultUuid, ResultArtifactType type, long offset, int length) {
+        List<byte[]> chunks = jdbcTemplate.query(
+                "SELECT substring(" + type.getColumnName() + " FROM ? FOR ?) FROM result WHERE result_uuid = ?",
+                (rs, rowNum) -> rs.getBytes(1), Math.toIntExact(offset + 1), length, resultUuid);
+        return chunks.isEmpty() || chunks.get(0) == null ? new byte[0] : chunks.get(0);
+    }
+
+    /**
+     * @return a resource streaming the content by chunks, null if the result has no such content
+     */
+    public ResultArtifactResource getResource(UUID resultUuid, ResultArtifactType type) {
+        Long length = getLength(resultUuid, type);
+        return length != null ? new ResultArtifactResource(this, resultUuid, type, length, chunkSize) : null;
+    }
+
+    /**
+     * Write a content once, a written content is never overwritten so that it can be read by chunks without a transaction
+     * lasting for the whole read, see {@link ResultArtifactResource}
+     *
+     * @throws IllegalStateException if the content is already written or the result does not exist
+     */
+    public void write(UUID resultUuid, ResultArtifactType type, InputStream content, long length) {
+        Objects.requireNonNull(content);
+        String columnName = type.getColumnName();
+        int updated = jdbcTemplate.update("UPDATE result SET " + columnName + " = ? WHERE result_uuid = ? AND " + columnName + " IS NULL", ps -> {
+            ps.setBinaryStream(1, content, length);
+            ps.setObject(2, resultUuid);
+        });
+        if (updated == 0) {
+            throw new IllegalStateException("Result content " + type + " of " + resultUuid + " is already written or the result does not exist");
+        }
+    }
+
+    public void write(UUID resultUuid, ResultArtifactType type, Path file) {
+        try (InputStream is = Files.newInputStream(file)) {
+            write(resultUuid, type, is, Files.size(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error occurred while writing the file " + file.toAbsolutePath(), e);
+        }
+    }
+
+    public Optional<ArtifactInfos> findInfos(UUID resultUuid, ResultArtifactType type) {
+        return jdbcTemplate.query("SELECT s3_key, content_length, checksum, codec FROM result_artifact WHERE result_uuid = ? AND artifact_type = ?",
+                (rs, rowNum) -> new ArtifactInfos(rs.getString(1), rs.getLong(2), rs.getString(3), ArtifactCodec.valueOf(rs.getString(4))),
+                resultUuid, type.name()).stream().findFirst();
+    }
+
+    /**
+     * Record the description of a stored content, the content previously kept in the result table is cleared if it is offloaded
+     */
+    public void saveInfos(UUID resultUuid, ResultArtifactType type, ArtifactInfos artifactInfos) {
+        jdbcTemplate.update("DELETE FROM result_artifact WHERE result_uuid = ? AND artifact_type = ?", resultUuid, type.name());
+        jdbcTemplate.update("INSERT INTO result_artifact (result_uuid, artifact_type, s3_key, content_length, checksum, codec) VALUES (?, ?, ?, ?, ?, ?)",
+                resultUuid, type.name(), artifactInfos.s3Key(), artifactInfos.length(), artifactInfos.checksum(), artifactInfos.codec().name());
+        if (artifactInfos.isOffloaded()) {
+            jdbcTemplate.update("UPDATE result SET " + type.getColumnName() + " = NULL WHERE result_uuid = ?", resultUuid);
+        }
+    }
+
+    /**
+     * @return object storage keys of the offloaded contents of the given result, all results if null
+     */
+    public List<String> findOffloadedKeys(UUID resultUuid) {
+        return resultUuid != null ?
+                jdbcTemplate.queryForList("SELECT s3_key FROM result_artifact WHERE result_uuid = ? AND s3_key IS NOT NULL", String.class, resultUuid) :
+                jdbcTemplate.queryForList("SELECT s3_key FROM result_artifact WHERE s3_key IS NOT NULL", String.class);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.repository;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Resource reading a result content by chunks. The length is known upfront and skipping does not read anything,
+ * so that Spring can serve HTTP range requests without loading the content.
+ * <p>
+ * Chunks are read outside of any transaction, once the length is sent to the client. Contents being written once,
+ * see {@link ResultArtifactRepository#write}, a content can only disappear along with its result while it is read,
+ * which is reported as an error instead of a truncated content.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public class ResultArtifactResource extends AbstractResource {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final ResultArtifactRepository repository;
+    private final UUID resultUuid;
+    private final ResultArtifactType type;
+    private final long length;
+    private final int chunkSize;
+
+    ResultArtifactResource(ResultArtifactRepository repository, UUID resultUuid, ResultArtifactType type, long length, int chunkSize) {
+        this.repository = Objects.requireNonNull(repository);
+        this.resultUuid = Objects.requireNonNull(resultUuid);
+        this.type = Objects.requireNonNull(type);
+        this.length = length;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Result " + resultUuid + " " + type;
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() {
+        return length;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ChunkedInputStream();
+    }
+
+    private final class ChunkedInputStream extends InputStream {
+
+        // offset of the next chunk to read
+        private long position;
+
+        private byte[] chunk = EMPTY;
+        private int chunkPosition;
+
+        @Override
+        public int read() throws IOException {
+            if (chunkPosition >= chunk.length && !fill()) {
+                return -1;
+            }
+            return chunk[chunkPosition++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (len == 0) {
+                return 0;
+            }
+            if (chunkPosition >= chunk.length && !fill()) {
+                return -1;
+            }
+            int n = Math.min(len, chunk.length - chunkPosition);
+            System.arraycopy(chunk, chunkPosition, b, off, n);
+            chunkPosition += n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            if (n <= 0) {
+                return 0;
+            }
+            int buffered = chunk.length - chunkPosition;
+            if (n <= buffered) {
+                chunkPosition += (int) n;
+                return n;
+            }
+            // drop the current chunk and move the offset of the next one, nothing is read
+            long skipped = Math.min(n - buffered, length - position);
+            position += skipped;
+            chunk = EMPTY;
+            chunkPosition = 0;
+            return buffered + skipped;
+        }
+
+        @Override
+        public int available() {
+            return chunk.length - chunkPosition;
+        }
+
+        private boolean fill() throws IOException {
+            if (position >= length) {
+                return false;
+            }
+            int expectedLength = (int) Math.min(chunkSize, length - position);
+            byte[] nextChunk = repository.readChunk(resultUuid, type, position, expectedLength);
+            if (nextChunk.length != expectedLength) {
+                throw new IOException(getDescription() + " is shorter than its length " + length + ", " + nextChunk.length
+                        + " bytes read at offset " + position + " instead of " + expectedLength + ", it has been deleted while read");
+            }
+            chunk = nextChunk;
+            chunkPosition = 0;
+            position += chunk.length;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Large binary contents attached to a dynamic simulation result, each of them stored with its own codec,
+ * recorded in its result_artifact row, see {@link ResultArtifactRepository.ArtifactInfos}
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@AllArgsConstructor
+@Getter
+public enum ResultArtifactType {
+    OUTPUT_STATE("output_state"),
+    PARAMETERS("parameters"),
+    DYNAMIC_MODEL("dynamic_model");
+
+    /**
+     * Column of the result table holding the content
+     */
+    private final String columnName;
+}
@@ -35,11 +35,12 @@ public interface ResultRepository extends JpaRepository<ResultEntity, UUID> {
     @Query("UPDATE ResultEntity r SET r.debugFileLocation = :debugFileLocation WHERE r.id = :resultUuid")
     int updateDebugFileLocation(@Param("resultUuid") UUID resultUuid, @Param("debugFileLocation") String debugFileLocation);
 
+    /**
+     * Output state, parameters and dynamic model are written separately as streams, see {@link ResultArtifactRepository}
+     */
     @Modifying
-    @Query("UPDATE ResultEntity r SET r.status = :status, r.timeSeriesId = :timeSeriesId, r.timeLineId = :timeLineId," +
-           " r.outputState = :outputState, r.parameters = :parameters, r.dynamicModel = :dynamicModel" +
+    @Query("UPDATE ResultEntity r SET r.status = :status, r.timeSeriesId = :timeSeriesId, r.timeLineId = :timeLineId" +
            " WHERE r.id = :resultUuid")
     int updateResult(@Param("resultUuid") UUID resultUuid, @Param("timeSeriesId") UUID timeSeriesId, @Param("timeLineId") UUID timeLineId,
-                     @Param("status") DynamicSimulationStatus status, @Param("outputState") byte[] outputState,
-                     @Param("parameters") byte[] parameters, @Param("dynamicModel") byte[] dynamicModel);
+                     @Param("status") DynamicSimulationStatus status);
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service;
+
+import jakarta.annotation.PreDestroy;
+import org.gridsuite.ds.server.utils.ArtifactCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compression of the large result contents, i.e. the output state, with the configured {@link ArtifactCodec}.
+ * <p>
+ * Contents are streamed from the source file to the target file. With the parallel codec, the source is read by blocks
+ * compressed on a dedicated pool, compressed blocks being written in order as soon as they are available,
+ * so that at most two blocks per thread are kept in memory.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Service
+public class ArtifactCompressionService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ArtifactCodec codec;
+
+    private final int level;
+
+    private final int blockSize;
+
+    private final int parallelism;
+
+    // null unless the parallel codec is selected
+    private final ExecutorService compressionExecutor;
+
+    public ArtifactCompressionService(@Value("${dynamic-simulation.result.artifact.codec:PARALLEL_GZIP}") ArtifactCodec codec,
+                                      @Value("${dynamic-simulation.result.artifact.compression.level:6}") int level,
+                                      @Value("${dynamic-simulation.result.artifact.compression.block-size:1MB}") DataSize blockSize,
+                                      @Value("${dynamic-simulation.result.artifact.compression.parallelism:0}") int parallelism) {
+        this.codec = Objects.requireNonNull(codec);
+        this.level = level;
+        this.blockSize = Math.toIntExact(blockSize.toBytes());
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.compressionExecutor = codec == ArtifactCodec.PARALLEL_GZIP ?
+                Executors.newFixedThreadPool(this.parallelism, new CustomizableThreadFactory("ds-compression-")) : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (compressionExecutor != null) {
+            compressionExecutor.shutdownNow();
+        }
+    }
+
+    public ArtifactCodec getCodec() {
+        return codec;
+    }
+
+    /**
+     * Compress the source file into the target file with the configured codec
+     */
+    public void compress(Path sourcePath, Path targetPath) {
+        try (InputStream is = Files.newInputStream(sourcePath);
+             OutputStream os = new BufferedOutputStream(Files.newOutputStream(targetPath), BUFFER_SIZE)) {
+            switch (codec) {
+                case NONE -> is.transferTo(os);
+                case GZIP -> {
+                    try (GZIPOutputStream gzipOs = new LevelGzipOutputStream(os, level)) {
+                        is.transferTo(gzipOs);
+                    }
+                }
+                case PARALLEL_GZIP -> compressParallel(is, os);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error occurred while compressing the file " + sourcePath.toAbsolutePath(), e);
+        }
+    }
+
+    private void compressParallel(InputStream is, OutputStream os) throws IOException {
+        Deque<Future<byte[]>> pendingMembers = new ArrayDeque<>();
+        try {
+            boolean empty = true;
+            byte[] block;
+            while ((block = is.readNBytes(blockSize)).length > 0) {
+                empty = false;
+                byte[] content = block;
+                pendingMembers.add(compressionExecutor.submit(() -> compressMember(content)));
+                if (pendingMembers.size() >= 2 * parallelism) {
+                    os.write(await(pendingMembers.poll()));
+                }
+            }
+            while (!pendingMembers.isEmpty()) {
+                os.write(await(pendingMembers.poll()));
+            }
+            if (empty) {
+                // an empty content is still a valid gzip stream
+                os.write(compressMember(new byte[0]));
+            }
+        } finally {
+            pendingMembers.forEach(member -> member.cancel(true));
+        }
+    }
+
+    private byte[] compressMember(byte[] content) throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream(content.length / 2 + 64);
+        try (GZIPOutputStream gzipOs = new LevelGzipOutputStream(os, level)) {
+            gzipOs.write(content);
+        }
+        return os.toByteArray();
+    }
+
+    private static byte[] await(Future<byte[]> member) throws IOException {
+        try {
+            return member.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while compressing a block");
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException ioException ? ioException : new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Gzip output stream with a configurable compression level, lower levels trading size for speed
+     */
+    private static final class LevelGzipOutputStream extends GZIPOutputStream {
+
+        private LevelGzipOutputStream(OutputStream os, int level) throws IOException {
+            super(os, BUFFER_SIZE);
+            def.setLevel(level);
+        }
+    }
+}
@@ -8,22 +8,37 @@ package org.gridsuite.ds.server.service;
 
 import com.powsybl.dynamicsimulation.DynamicSimulationResult;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.NonNull;
 import org.gridsuite.computation.service.AbstractComputationObserver;
 import org.gridsuite.ds.server.dto.DynamicSimulationParametersInfos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
 /**
  * @author Franck Lecuyer <franck.lecuyer at rte-france.com>
  */
 @Service
 public class DynamicSimulationObserver extends AbstractComputationObserver<DynamicSimulationResult, DynamicSimulationParametersInfos> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DynamicSimulationObserver.class);
+
     private static final String COMPUTATION_TYPE = "ds";
 
+    public static final String STAGE_METER_NAME = "app.computation.stage";
+    private static final String STAGE_TAG_NAME = "stage";
+    private static final String TYPE_TAG_NAME = "type";
+
+    private final MeterRegistry meterRegistry;
+
     public DynamicSimulationObserver(@NonNull ObservationRegistry observationRegistry, @NonNull MeterRegistry meterRegistry) {
         super(observationRegistry, meterRegistry);
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -35,4 +50,22 @@ public class DynamicSimulationObserver extends AbstractComputationObserver<Dynam
     protected String getResultStatus(DynamicSimulationResult res) {
         return res != null && res.getStatus() == DynamicSimulationResult.Status.SUCCESS ? "OK" : "NOK";
     }
+
+    /**
+     * Time a stage of the computation, the duration is logged and recorded in a timer tagged by the stage name
+     */
+    public <T> T observeStage(String stage, Supplier<T> supplier) {
+        long startTime = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            long duration = System.nanoTime() - startTime;
+            Timer.builder(STAGE_METER_NAME)
+                    .tag(TYPE_TAG_NAME, COMPUTATION_TYPE)
+                    .tag(STAGE_TAG_NAME, stage)
+                    .register(meterRegistry)
+                    .record(duration, TimeUnit.NANOSECONDS);
+            LOGGER.info("{}: stage {} done in {} ms", COMPUTATION_TYPE, stage, TimeUnit.NANOSECONDS.toMillis(duration));
+        }
+    }
 }
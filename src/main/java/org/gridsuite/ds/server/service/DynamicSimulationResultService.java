@@ -6,13 +6,21 @@ import org.gridsuite.computation.service.AbstractComputationResultService;
 import org.gridsuite.ds.server.dto.DynamicSimulationStatus;
 import org.gridsuite.ds.server.dto.timeseries.TimeSeriesGroupInfos;
 import org.gridsuite.ds.server.entities.ResultEntity;
+import org.gridsuite.ds.server.repository.ResultArtifactRepository.ArtifactInfos;
+import org.gridsuite.ds.server.repository.ResultArtifactType;
 import org.gridsuite.ds.server.repository.ResultRepository;
+import org.gridsuite.ds.server.service.ResultArtifactService.ArtifactContent;
+import org.gridsuite.ds.server.service.ResultArtifactService.ResultArtifact;
 import org.gridsuite.ds.server.service.client.timeseries.TimeSeriesClient;
+import org.gridsuite.ds.server.utils.ArtifactCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.file.Path;
 import java.util.*;
 
 import static org.gridsuite.computation.error.ComputationBusinessErrorCode.RESULT_NOT_FOUND;
@@ -24,11 +32,16 @@ public class DynamicSimulationResultService extends AbstractComputationResultSer
     public static final String MSG_RESULT_UUID_NOT_FOUND = "Result uuid not found: ";
 
     private final ResultRepository resultRepository;
+    private final ResultArtifactService resultArtifactService;
     private final TimeSeriesClient timeSeriesClient;
+    private final TransactionTemplate transactionTemplate;
 
-    public DynamicSimulationResultService(ResultRepository resultRepository, TimeSeriesClient timeSeriesClient) {
+    public DynamicSimulationResultService(ResultRepository resultRepository, ResultArtifactService resultArtifactService, TimeSeriesClient timeSeriesClient,
+                                          PlatformTransactionManager transactionManager) {
         this.resultRepository = resultRepository;
+        this.resultArtifactService = resultArtifactService;
         this.timeSeriesClient = timeSeriesClient;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Transactional(readOnly = true)
@@ -47,28 +60,16 @@ public class DynamicSimulationResultService extends AbstractComputationResultSer
                 .getTimeLineId();
     }
 
+    /**
+     * @return the given content of the result and its codec, null if the result has no such content
+     */
     @Transactional(readOnly = true)
-    public byte[] getOutputState(UUID resultUuid) {
+    public ResultArtifact getArtifact(UUID resultUuid, ResultArtifactType type) {
         Objects.requireNonNull(resultUuid);
-        return resultRepository.findById(resultUuid, ResultEntity.OutputState.class)
-                .orElseThrow(() -> new ComputationException(RESULT_NOT_FOUND, MSG_RESULT_UUID_NOT_FOUND + resultUuid))
-                .getOutputState();
-    }
-
-    @Transactional(readOnly = true)
-    public byte[] getParameters(UUID resultUuid) {
-        Objects.requireNonNull(resultUuid);
-        return resultRepository.findById(resultUuid, ResultEntity.Parameters.class)
-                .orElseThrow(() -> new ComputationException(RESULT_NOT_FOUND, MSG_RESULT_UUID_NOT_FOUND + resultUuid))
-                .getParameters();
-    }
-
-    @Transactional(readOnly = true)
-    public byte[] getDynamicModel(UUID resultUuid) {
-        Objects.requireNonNull(resultUuid);
-        return resultRepository.findById(resultUuid, ResultEntity.DynamicModel.class)
-                .orElseThrow(() -> new ComputationException(RESULT_NOT_FOUND, MSG_RESULT_UUID_NOT_FOUND + resultUuid))
-                .getDynamicModel();
+        if (!resultRepository.existsById(resultUuid)) {
+            throw new ComputationException(RESULT_NOT_FOUND, MSG_RESULT_UUID_NOT_FOUND + resultUuid);
+        }
+        return resultArtifactService.getArtifact(resultUuid, type);
     }
 
     @Transactional
@@ -76,23 +77,99 @@ public class DynamicSimulationResultService extends AbstractComputationResultSer
         return resultRepository.updateStatus(resultUuids, status) > 0 ? resultUuids : Collections.emptyList();
     }
 
-    @Transactional
+    /**
+     * @return the uuid of the time-series group created by the time-series-server, null if there is no time-series
+     */
+    public UUID sendTimeSeries(List<TimeSeries<?, ?>> timeSeries) {
+        return Optional.ofNullable(timeSeriesClient.sendTimeSeries(timeSeries))
+                .map(TimeSeriesGroupInfos::getId)
+                .orElse(null);
+    }
+
     public void updateResult(UUID resultUuid, List<TimeSeries<?, ?>> timeSeries, List<TimeSeries<?, ?>> timeLineSeries,
                              DynamicSimulationStatus status, byte[] outputState, byte[] parameters, byte[] dynamicModel) {
 
         // send time-series/timeline to time-series-server
-        UUID timeSeriesUuid = Optional.ofNullable(timeSeriesClient.sendTimeSeries(timeSeries))
-                .map(TimeSeriesGroupInfos::getId)
-                .orElse(null);
-        UUID timeLineUuid = Optional.ofNullable(timeSeriesClient.sendTimeSeries(timeLineSeries))
-                .map(TimeSeriesGroupInfos::getId)
-                .orElse(null);
+        UUID timeSeriesUuid = sendTimeSeries(timeSeries);
+        UUID timeLineUuid;
+        try {
+            timeLineUuid = sendTimeSeries(timeLineSeries);
+        } catch (RuntimeException e) {
+            deleteTimeSeries(timeSeriesUuid);
+            throw e;
+        }
+
+        List<ArtifactContent> contents = new ArrayList<>();
+        if (outputState != null) {
+            contents.add(ArtifactContent.of(ResultArtifactType.OUTPUT_STATE, outputState, ArtifactCodec.GZIP));
+        }
+        addContents(contents, parameters, dynamicModel);
+        saveResult(resultUuid, timeSeriesUuid, timeLineUuid, status, contents);
+    }
 
+    /**
+     * Save in a single transaction the uuids of the already sent time-series/timeline, the status and the contents of a result,
+     * the output state being streamed from the given file if any
+     */
+    public void saveResult(UUID resultUuid, UUID timeSeriesUuid, UUID timeLineUuid, DynamicSimulationStatus status,
+                           Path outputStateFile, ArtifactCodec outputStateCodec, byte[] parameters, byte[] dynamicModel) {
+        List<ArtifactContent> contents = new ArrayList<>();
+        if (outputStateFile != null) {
+            contents.add(ArtifactContent.of(ResultArtifactType.OUTPUT_STATE, outputStateFile, outputStateCodec));
+        }
+        addContents(contents, parameters, dynamicModel);
+        saveResult(resultUuid, timeSeriesUuid, timeLineUuid, status, contents);
+    }
+
+    private static void addContents(List<ArtifactContent> contents, byte[] parameters, byte[] dynamicModel) {
+        if (parameters != null) {
+            contents.add(ArtifactContent.of(ResultArtifactType.PARAMETERS, parameters, ArtifactCodec.GZIP));
+        }
+        if (dynamicModel != null) {
+            contents.add(ArtifactContent.of(ResultArtifactType.DYNAMIC_MODEL, dynamicModel, ArtifactCodec.GZIP));
+        }
+    }
+
+    private void saveResult(UUID resultUuid, UUID timeSeriesUuid, UUID timeLineUuid, DynamicSimulationStatus status, List<ArtifactContent> contents) {
+        Objects.requireNonNull(resultUuid);
         LOGGER.debug("Update dynamic simulation [resultUuid={}, timeSeriesUuid={}, timeLineUuid={}, status={}",
                 resultUuid, timeSeriesUuid, timeLineUuid, status);
 
-        // update time-series/timeline uuids, status and outputState to the db
-        resultRepository.updateResult(resultUuid, timeSeriesUuid, timeLineUuid, status, outputState, parameters, dynamicModel);
+        // upload the large contents before the transaction, no pooled connection is held during the upload
+        Map<ResultArtifactType, ArtifactInfos> offloadedArtifacts;
+        try {
+            offloadedArtifacts = resultArtifactService.offload(resultUuid, contents);
+        } catch (RuntimeException e) {
+            // the failed uploads are already deleted
+            deleteTimeSeries(timeSeriesUuid, timeLineUuid);
+            throw e;
+        }
+        try {
+            // update time-series/timeline uuids, status and contents to the db
+            transactionTemplate.executeWithoutResult(transactionStatus -> {
+                resultRepository.updateResult(resultUuid, timeSeriesUuid, timeLineUuid, status);
+                resultArtifactService.save(resultUuid, contents, offloadedArtifacts);
+            });
+        } catch (RuntimeException e) {
+            // the uploaded contents and the sent time-series/timeline are not referenced once rolled back
+            resultArtifactService.deleteUnreferenced(offloadedArtifacts.values());
+            deleteTimeSeries(timeSeriesUuid, timeLineUuid);
+            throw e;
+        }
+    }
+
+    /**
+     * Delete the given time-series/timeline groups, sent to the time-series-server but not referenced by any result,
+     * a failure being only logged so as not to hide the failure of the result saving
+     */
+    public void deleteTimeSeries(UUID... groupUuids) {
+        for (UUID groupUuid : groupUuids) {
+            try {
+                timeSeriesClient.deleteTimeSeriesGroup(groupUuid);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Unable to delete the time-series group {}", groupUuid, e);
+            }
+        }
     }
 
     @Override
@@ -124,8 +201,10 @@ public class DynamicSimulationResultService extends AbstractComputationResultSer
         // call time series client to delete time-series and timeline
         timeSeriesClient.deleteTimeSeriesGroup(resultEntity.getTimeSeriesId());
         timeSeriesClient.deleteTimeSeriesGroup(resultEntity.getTimeLineId());
-        // then delete result in local db
-        resultRepository.deleteById(resultUuid);
+        // delete offloaded contents, once the deletion of the results is committed
+        resultArtifactService.deleteOffloaded(resultUuid);
+        // then delete result in local db, without loading its contents
+        resultRepository.deleteAllByIdInBatch(List.of(resultUuid));
     }
 
     @Override
@@ -139,8 +218,11 @@ public class DynamicSimulationResultService extends AbstractComputationResultSer
             timeSeriesClient.deleteTimeSeriesGroup(resultEntity.getTimeLineId());
         }
 
-        // then delete all results in local db
-        resultRepository.deleteAll();
+        // delete offloaded contents, once the deletion of the results is committed
+        resultArtifactService.deleteOffloaded(null);
+
+        // then delete all results in local db, without loading their contents
+        resultRepository.deleteAllInBatch();
     }
 
     @Override
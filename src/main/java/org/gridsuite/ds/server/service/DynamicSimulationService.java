@@ -6,6 +6,7 @@
  */
 package org.gridsuite.ds.server.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.powsybl.dynamicsimulation.DynamicSimulationProvider;
 import org.gridsuite.computation.s3.ComputationS3Service;
@@ -13,14 +14,25 @@ import org.gridsuite.computation.service.AbstractComputationService;
 import org.gridsuite.computation.service.NotificationService;
 import org.gridsuite.computation.service.UuidGeneratorService;
 import org.gridsuite.ds.server.dto.DynamicSimulationStatus;
+import org.gridsuite.ds.server.dto.RunPriority;
+import org.gridsuite.ds.server.dto.SweepRunInfos;
+import org.gridsuite.ds.server.dto.event.EventInfos;
 import org.gridsuite.ds.server.service.contexts.DynamicSimulationResultContext;
 import org.gridsuite.ds.server.service.contexts.DynamicSimulationRunContext;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
 
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.gridsuite.computation.service.NotificationService.RESULT_UUID_HEADER;
+import static org.gridsuite.ds.server.service.SimulationScheduler.HEADER_QUEUED_AT;
+import static org.gridsuite.ds.server.service.contexts.DynamicSimulationResultContext.HEADER_EVENTS;
 
 /**
  * @author Abdelsalem Hedhili <abdelsalem.hedhili at rte-france.com>
@@ -29,14 +41,34 @@ import java.util.UUID;
 public class DynamicSimulationService extends AbstractComputationService<DynamicSimulationRunContext, DynamicSimulationResultService, DynamicSimulationStatus> {
     public static final String COMPUTATION_TYPE = "dynamic simulation";
 
+    public static final String RUN_OUTPUT_BINDING = "publishRun-out-0";
+    public static final String RUN_HIGH_PRIORITY_OUTPUT_BINDING = "publishRunHigh-out-0";
+
+    private final StreamBridge streamBridge;
+
     public DynamicSimulationService(
             NotificationService notificationService,
             ObjectMapper objectMapper,
             UuidGeneratorService uuidGeneratorService,
             DynamicSimulationResultService dynamicSimulationResultService,
             ComputationS3Service computationS3Service,
+            StreamBridge streamBridge,
             @Value("${dynamic-simulation.default-provider}") String defaultProvider) {
         super(notificationService, dynamicSimulationResultService, computationS3Service, objectMapper, uuidGeneratorService, defaultProvider);
+        this.streamBridge = streamBridge;
+    }
+
+    /**
+     * @return the output binding of the lane of the given priority
+     */
+    public static String getRunOutputBinding(RunPriority priority) {
+        return priority == RunPriority.HIGH ? RUN_HIGH_PRIORITY_OUTPUT_BINDING : RUN_OUTPUT_BINDING;
+    }
+
+    /**
+     * Result uuids of a batch of runs, in the order of the submitted events lists
+     */
+    public record BatchRunInfos(UUID batchId, List<UUID> resultUuids) {
     }
 
     @Override
@@ -45,12 +77,72 @@ public class DynamicSimulationService extends AbstractComputationService<Dynamic
         UUID resultUuid = uuidGeneratorService.generate();
         resultService.insertStatus(List.of(resultUuid), DynamicSimulationStatus.RUNNING);
 
-        // emit a message to launch the simulation by the worker service
-        Message<String> message = new DynamicSimulationResultContext(resultUuid, runContext).toMessage(objectMapper);
-        notificationService.sendRunMessage(message);
+        // emit a message to launch the simulation by the worker service, stamped to measure the queue wait
+        Message<String> message = MessageBuilder.fromMessage(new DynamicSimulationResultContext(resultUuid, runContext).toMessage(objectMapper))
+                .setHeader(HEADER_QUEUED_AT, System.currentTimeMillis())
+                .build();
+        sendRunMessage(message, runContext.getPriority());
         return resultUuid;
     }
 
+    /**
+     * Run a batch of simulations differing only by their events. The result entities are inserted at once,
+     * the parameters of the given run context are resolved and serialized once for the whole batch.
+     * <p>
+     * In sweep mode, the whole batch is sent in a single message, run in parallel by one worker, see {@link SimulationSweepService}.
+     */
+    public BatchRunInfos runAndSaveResults(DynamicSimulationRunContext runContext, List<List<EventInfos>> eventsList, boolean sweep) {
+        UUID batchId = uuidGeneratorService.generate();
+        runContext.setBatchId(batchId);
+        List<UUID> resultUuids = eventsList.stream().map(events -> uuidGeneratorService.generate()).toList();
+        if (resultUuids.isEmpty()) {
+            return new BatchRunInfos(batchId, resultUuids);
+        }
+
+        // insert the new result entities with running status
+        resultService.insertStatus(resultUuids, DynamicSimulationStatus.RUNNING);
+
+        if (sweep) {
+            // the first run carries the other ones of the sweep
+            runContext.setEvents(eventsList.get(0));
+            runContext.setSweepRuns(IntStream.range(1, resultUuids.size())
+                    .mapToObj(i -> new SweepRunInfos(resultUuids.get(i), eventsList.get(i)))
+                    .toList());
+            Message<String> message = MessageBuilder.fromMessage(new DynamicSimulationResultContext(resultUuids.get(0), runContext).toRunMessage(objectMapper))
+                    .setHeader(HEADER_QUEUED_AT, System.currentTimeMillis())
+                    .build();
+            sendRunMessage(message, runContext.getPriority());
+            return new BatchRunInfos(batchId, resultUuids);
+        }
+
+        // the message of each run only differs from the template by its result uuid and events headers
+        Message<String> template = MessageBuilder.fromMessage(new DynamicSimulationResultContext(resultUuids.get(0), runContext).toMessage(objectMapper))
+                .setHeader(HEADER_QUEUED_AT, System.currentTimeMillis())
+                .build();
+        for (int i = 0; i < resultUuids.size(); i++) {
+            String eventsJson;
+            try {
+                eventsJson = objectMapper.writeValueAsString(eventsList.get(i));
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+            sendRunMessage(MessageBuilder.fromMessage(template)
+                    .setHeader(RESULT_UUID_HEADER, resultUuids.get(i).toString())
+                    .setHeader(HEADER_EVENTS, eventsJson)
+                    .build(), runContext.getPriority());
+        }
+        return new BatchRunInfos(batchId, resultUuids);
+    }
+
+    private void sendRunMessage(Message<String> message, RunPriority priority) {
+        // high priority runs are sent to their own lane so that they are not queued behind batch studies
+        if (priority == RunPriority.HIGH) {
+            streamBridge.send(RUN_HIGH_PRIORITY_OUTPUT_BINDING, message);
+        } else {
+            notificationService.sendRunMessage(message);
+        }
+    }
+
     public List<String> getProviders() {
         return DynamicSimulationProvider.findAll().stream()
                 .map(DynamicSimulationProvider::getName)
@@ -6,19 +6,15 @@
  */
 package org.gridsuite.ds.server.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.io.FileUtil;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.computation.ComputationManager;
 import com.powsybl.dynamicsimulation.*;
-import com.powsybl.dynamicsimulation.groovy.GroovyExtension;
-import com.powsybl.dynamicsimulation.groovy.GroovyOutputVariablesSupplier;
-import com.powsybl.dynamicsimulation.groovy.OutputVariableGroovyExtension;
 import com.powsybl.dynawo.DumpFileParameters;
 import com.powsybl.dynawo.DynawoSimulationParameters;
-import com.powsybl.dynawo.DynawoSimulationProvider;
+import com.powsybl.dynawo.parameters.ParametersSet;
 import com.powsybl.dynawo.suppliers.dynamicmodels.DynamicModelConfig;
 import com.powsybl.dynawo.suppliers.dynamicmodels.DynamicModelConfigJsonUtils;
 import com.powsybl.dynawo.suppliers.dynamicmodels.DynawoModelsSupplier;
@@ -27,41 +23,54 @@ import com.powsybl.dynawo.suppliers.events.EventModelConfig;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.VariantManagerConstants;
 import com.powsybl.network.store.client.NetworkStoreService;
-import com.powsybl.timeseries.IrregularTimeSeriesIndex;
 import com.powsybl.timeseries.TimeSeries;
 import org.apache.commons.collections4.CollectionUtils;
+import org.gridsuite.computation.dto.ReportInfos;
 import org.gridsuite.computation.s3.ComputationS3Service;
 import org.gridsuite.computation.service.*;
 import org.gridsuite.ds.server.PropertyServerNameProvider;
 import org.gridsuite.ds.server.dto.DynamicSimulationParametersInfos;
 import org.gridsuite.ds.server.dto.DynamicSimulationStatus;
+import org.gridsuite.ds.server.dto.SweepRunInfos;
 import org.gridsuite.ds.server.dto.dynamicmapping.InputMapping;
-import org.gridsuite.ds.server.dto.dynamicmapping.ParameterFile;
-import org.gridsuite.ds.server.service.client.dynamicmapping.DynamicMappingClient;
+import org.gridsuite.ds.server.service.cache.DynamicMappingCacheService;
+import org.gridsuite.ds.server.service.cache.NetworkSnapshotCacheService;
+import org.gridsuite.ds.server.service.cache.PreparedContextCacheService;
+import org.gridsuite.ds.server.service.cache.PreparedContextCacheService.PreparedContext;
 import org.gridsuite.ds.server.service.contexts.DynamicSimulationResultContext;
 import org.gridsuite.ds.server.service.contexts.DynamicSimulationRunContext;
 import org.gridsuite.ds.server.service.parameters.ParametersService;
+import org.gridsuite.ds.server.utils.ArtifactCodec;
+import org.gridsuite.ds.server.utils.TimelineEncoder;
 import org.gridsuite.ds.server.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.http.HttpStatus;
 import org.springframework.messaging.Message;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
+import jakarta.annotation.PreDestroy;
 import javax.annotation.Nullable;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
+import static org.gridsuite.computation.service.NotificationService.HEADER_RESULT_UUID;
 import static org.gridsuite.ds.server.service.DynamicSimulationService.COMPUTATION_TYPE;
 
 /**
@@ -73,8 +82,25 @@ public class DynamicSimulationWorkerService extends AbstractWorkerService<Dynami
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DynamicSimulationWorkerService.class);
 
-    private final DynamicMappingClient dynamicMappingClient;
+    private final DynamicMappingCacheService dynamicMappingCacheService;
     private final ParametersService parametersService;
+    private final DynamicSimulationObserver dynamicSimulationObserver;
+    private final ArtifactCompressionService artifactCompressionService;
+    private final SimulationScheduler simulationScheduler;
+    private final NetworkPreloadingService networkPreloadingService;
+    private final NetworkSnapshotCacheService networkSnapshotCacheService;
+    private final PreparedContextCacheService preparedContextCacheService;
+    private final SimulationSweepService simulationSweepService;
+
+    // network stamp of the run in progress on the consumer thread, as the network is loaded from its uuid and variant only
+    private final ThreadLocal<String> currentNetworkStamp = new ThreadLocal<>();
+    private final ExecutorService resultExecutor;
+
+    /**
+     * Output state file to stream to the db, temporary files are deleted once the result is saved
+     */
+    private record OutputStateFile(Path file, ArtifactCodec codec, boolean temporary) {
+    }
 
     public DynamicSimulationWorkerService(NetworkStoreService networkStoreService,
                                           NotificationService notificationService,
@@ -84,12 +110,32 @@ public class DynamicSimulationWorkerService extends AbstractWorkerService<Dynami
                                           ObjectMapper objectMapper,
                                           DynamicSimulationResultService dynamicSimulationResultService,
                                           ComputationS3Service computationS3Service,
-                                          DynamicMappingClient dynamicMappingClient,
+                                          DynamicMappingCacheService dynamicMappingCacheService,
                                           ParametersService parametersService,
-                                          PropertyServerNameProvider propertyServerNameProvider) {
+                                          ArtifactCompressionService artifactCompressionService,
+                                          SimulationScheduler simulationScheduler,
+                                          NetworkPreloadingService networkPreloadingService,
+                                          NetworkSnapshotCacheService networkSnapshotCacheService,
+                                          PreparedContextCacheService preparedContextCacheService,
+                                          SimulationSweepService simulationSweepService,
+                                          PropertyServerNameProvider propertyServerNameProvider,
+                                          @Value("${dynamic-simulation.result.save.parallelism:5}") int resultSaveParallelism) {
         super(networkStoreService, notificationService, reportService, dynamicSimulationResultService, computationS3Service, executionService, observer, objectMapper, propertyServerNameProvider);
-        this.dynamicMappingClient = Objects.requireNonNull(dynamicMappingClient);
+        this.dynamicMappingCacheService = Objects.requireNonNull(dynamicMappingCacheService);
         this.parametersService = Objects.requireNonNull(parametersService);
+        this.dynamicSimulationObserver = observer;
+        this.artifactCompressionService = Objects.requireNonNull(artifactCompressionService);
+        this.simulationScheduler = Objects.requireNonNull(simulationScheduler);
+        this.networkPreloadingService = Objects.requireNonNull(networkPreloadingService);
+        this.networkSnapshotCacheService = Objects.requireNonNull(networkSnapshotCacheService);
+        this.preparedContextCacheService = Objects.requireNonNull(preparedContextCacheService);
+        this.simulationSweepService = Objects.requireNonNull(simulationSweepService);
+        this.resultExecutor = Executors.newFixedThreadPool(Math.max(1, resultSaveParallelism), new CustomizableThreadFactory("ds-result-"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resultExecutor.shutdownNow();
     }
 
     /**
@@ -101,55 +147,87 @@ public class DynamicSimulationWorkerService extends AbstractWorkerService<Dynami
         return executionService.getComputationManager();
     }
 
+    /**
+     * Load the network of the run with its preloading strategy, see {@link NetworkPreloadingService},
+     * or copy it from the cached snapshot of a previous run on the same stamped variant, see {@link NetworkSnapshotCacheService}
+     */
     @Override
-    protected DynamicSimulationResultContext fromMessage(Message<String> message) {
-        return DynamicSimulationResultContext.fromMessage(message, objectMapper);
-    }
-
-    public void updateResult(UUID resultUuid, DynamicSimulationResult result, byte[] outputState, byte[] parameters, byte[] dynamicModel) {
-        Objects.requireNonNull(resultUuid);
-        List<TimeSeries<?, ?>> timeSeries = new ArrayList<>(result.getCurves().values());
-        List<TimeSeries<?, ?>> timeLineSeries = new ArrayList<>();
-
-        // collect and convert timeline event list to StringTimeSeries
-        if (!CollectionUtils.isEmpty(result.getTimeLine())) {
-            List<TimelineEvent> timeLines = result.getTimeLine();
-            long[] timeLineIndexes = timeLines.stream().mapToLong(event -> (long) event.time()).toArray();
-            String[] timeLineValues = timeLines.stream().map(event -> {
-                try {
-                    return objectMapper.writeValueAsString(event);
-                } catch (JsonProcessingException e) {
-                    throw new PowsyblException("Error occurred while serializing time line event: " + event.toString(), e);
-                }
-            }).toArray(String[]::new);
-            timeLineSeries.add(TimeSeries.createString("timeLine", new IrregularTimeSeriesIndex(timeLineIndexes), timeLineValues));
+    protected Network getNetwork(UUID networkUuid, String variantId) {
+        try {
+            return networkSnapshotCacheService.getNetwork(networkUuid, variantId, currentNetworkStamp.get(), () -> {
+                Network network = networkPreloadingService.getNetwork(networkUuid);
+                network.getVariantManager().setWorkingVariant(variantId != null ? variantId : VariantManagerConstants.INITIAL_VARIANT_ID);
+                return network;
+            });
+        } catch (PowsyblException e) {
+            // network or variant not found, reported as by the default loading
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
         }
+    }
 
-        DynamicSimulationStatus status = result.getStatus() == DynamicSimulationResult.Status.SUCCESS ?
-                DynamicSimulationStatus.CONVERGED :
-                DynamicSimulationStatus.DIVERGED;
-
-        resultService.updateResult(resultUuid, timeSeries, timeLineSeries, status, outputState, parameters, dynamicModel);
+    @Override
+    protected DynamicSimulationResultContext fromMessage(Message<String> message) {
+        DynamicSimulationResultContext resultContext = DynamicSimulationResultContext.fromMessage(message, objectMapper);
+        currentNetworkStamp.set(resultContext.getRunContext().getNetworkStamp());
+        return resultContext;
     }
 
     @Override
     protected void saveResult(Network network, AbstractResultContext<DynamicSimulationRunContext> resultContext, DynamicSimulationResult result) {
-        // read dump file
-        DynamicSimulationParameters t0Parameters = resultContext.getRunContext().getT0DynamicSimulationParameters();
-        Path dumpDir = getDumpDir(t0Parameters);
-        byte[] outputState = null;
-        if (dumpDir != null) {
-            outputState = zipDumpFile(dumpDir);
-        }
+        UUID resultUuid = Objects.requireNonNull(resultContext.getResultUuid());
+        DynamicSimulationRunContext runContext = resultContext.getRunContext();
+        Path dumpDir = getDumpDir(runContext.getT0DynamicSimulationParameters());
+
+        // independent stages run concurrently, the db is updated once all of them are done
+        // compress dump file to be streamed to the db
+        CompletableFuture<OutputStateFile> outputStateFuture = CompletableFuture.supplyAsync(
+                () -> dumpDir != null ? prepareOutputState(dumpDir) : null, resultExecutor);
 
         // serialize T1 parameters to use in dynamic security analysis
-        DynamicSimulationParameters t1Parameters = resultContext.getRunContext().getT1DynamicSimulationParameters();
-        byte[] zippedJsonParameters = zipParameters(t1Parameters);
+        CompletableFuture<byte[]> parametersFuture = CompletableFuture.supplyAsync(
+                () -> zipParameters(runContext.getT1DynamicSimulationParameters()), resultExecutor);
 
         // serialize T1 dynamic model to use in dynamic security analysis
-        byte[] zippedJsonDynamicModel = zipDynamicModel(resultContext.getRunContext().getT1DynamicModelContent());
+        CompletableFuture<byte[]> dynamicModelFuture = CompletableFuture.supplyAsync(
+                () -> zipDynamicModel(runContext.getT1DynamicModelContent()), resultExecutor);
+
+        // send curves and timeline to time-series-server
+        CompletableFuture<UUID> timeSeriesFuture = CompletableFuture.supplyAsync(
+                () -> resultService.sendTimeSeries(new ArrayList<>(result.getCurves().values())), resultExecutor);
+        CompletableFuture<UUID> timeLineFuture = CompletableFuture.supplyAsync(() -> {
+            // collect and convert timeline event list to StringTimeSeries
+            List<TimeSeries<?, ?>> timeLineSeries = new ArrayList<>();
+            if (!CollectionUtils.isEmpty(result.getTimeLine())) {
+                timeLineSeries.add(TimelineEncoder.encode("timeLine", result.getTimeLine()));
+            }
+            return resultService.sendTimeSeries(timeLineSeries);
+        }, resultExecutor);
+
+        DynamicSimulationStatus status = result.getStatus() == DynamicSimulationResult.Status.SUCCESS ?
+                DynamicSimulationStatus.CONVERGED :
+                DynamicSimulationStatus.DIVERGED;
 
-        updateResult(resultContext.getResultUuid(), result, outputState, zippedJsonParameters, zippedJsonDynamicModel);
+        try {
+            try {
+                CompletableFuture.allOf(outputStateFuture, parametersFuture, dynamicModelFuture, timeSeriesFuture, timeLineFuture).join();
+            } catch (CompletionException e) {
+                // every stage is done, the time-series/timeline already sent are not referenced by the result
+                resultService.deleteTimeSeries(timeSeriesFuture.exceptionally(ex -> null).join(), timeLineFuture.exceptionally(ex -> null).join());
+                throw e;
+            }
+            OutputStateFile outputState = outputStateFuture.join();
+            resultService.saveResult(resultUuid, timeSeriesFuture.join(), timeLineFuture.join(), status,
+                    outputState != null ? outputState.file() : null, outputState != null ? outputState.codec() : null,
+                    parametersFuture.join(), dynamicModelFuture.join());
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+        } finally {
+            // wait for the compression even if another stage failed, then delete the compressed file
+            OutputStateFile outputState = outputStateFuture.exceptionally(e -> null).join();
+            if (outputState != null && outputState.temporary()) {
+                deleteOutputState(outputState.file());
+            }
+        }
     }
 
     @Override
@@ -163,23 +241,16 @@ public class DynamicSimulationWorkerService extends AbstractWorkerService<Dynami
         super.preRun(runContext);
         DynamicSimulationParametersInfos parametersInfos = runContext.getParameters();
 
-        // get parameters file from dynamic mapping server
-        ParameterFile parameterFile = dynamicMappingClient.exportParameters(runContext.getMappingId());
+        // the part not depending on the events is prepared once for the runs of a batch
+        PreparedContext preparedContext = preparedContextCacheService.getPreparedContext(runContext, () -> prepareContext(runContext));
+        List<ParametersSet> modelsParameters = preparedContext.modelsParameters();
+        List<DynamicModelConfig> dynamicModel = preparedContext.dynamicModel();
+
+        List<EventModelConfig> eventModel = dynamicSimulationObserver.observeStage("event-model", () -> parametersService.getEventModel(runContext.getEvents()));
 
-        // get all dynamic simulation parameters
-        String parameterFileContent = parameterFile.fileContent();
         // at the moment T0 and T1 share the same parameters infos, same mapping
-        DynamicSimulationParameters t0Parameters = parametersService.getDynamicSimulationParameters(
-                parameterFileContent.getBytes(StandardCharsets.UTF_8), runContext.getProvider(), parametersInfos);
-        DynamicSimulationParameters t1Parameters = parametersService.getDynamicSimulationParameters(
-                parameterFileContent.getBytes(StandardCharsets.UTF_8), runContext.getProvider(), parametersInfos);
-
-        // get mapping then generate dynamic model configs
-        InputMapping inputMapping = dynamicMappingClient.getMapping(runContext.getMappingId());
-        // at the moment T0 and T1 share the same dynamic model
-        List<DynamicModelConfig> t0DynamicModel = parametersService.getDynamicModel(inputMapping, runContext.getNetwork());
-        List<DynamicModelConfig> t1DynamicModel = parametersService.getDynamicModel(inputMapping, runContext.getNetwork());
-        List<EventModelConfig> eventModel = parametersService.getEventModel(runContext.getEvents());
+        DynamicSimulationParameters t0Parameters = parametersService.getDynamicSimulationParameters(modelsParameters, runContext.getProvider(), parametersInfos);
+        DynamicSimulationParameters t1Parameters = parametersService.getDynamicSimulationParameters(modelsParameters, runContext.getProvider(), parametersInfos);
 
         // set start and stop times
         t0Parameters.setStartTime(parametersInfos.getStartTime());
@@ -189,18 +260,21 @@ public class DynamicSimulationWorkerService extends AbstractWorkerService<Dynami
         }
         t1Parameters.setStartTime(parametersInfos.getStartTime());
         t1Parameters.setStopTime(parametersInfos.getStopTime());
-
-        // groovy scripts
-        String curveModel = parametersService.getCurveModel(parametersInfos.getCurves());
+        customizeT1Parameters(runContext, t1Parameters);
 
         // enrich runContext
+        runContext.setModelsParameters(modelsParameters);
         runContext.setT0DynamicSimulationParameters(t0Parameters);
         runContext.setT1DynamicSimulationParameters(t1Parameters);
 
-        runContext.setT0DynamicModelContent(t0DynamicModel);
-        runContext.setT1DynamicModelContent(t1DynamicModel);
+        // the dynamic model is unmodifiable so T0 and T1 can share it until T1 diverges
+        runContext.setT0DynamicModelContent(dynamicModel);
+        runContext.setT1DynamicModelContent(deriveT1DynamicModel(runContext, dynamicModel));
         runContext.setEventModelContent(eventModel);
-        runContext.setCurveContent(curveModel);
+        runContext.setOutputVariablesSupplier(preparedContext.outputVariablesSupplier());
+
+        // adjust the memory admitted on this node to the actual size of the run
+        dynamicSimulationObserver.observeStage("admission", () -> simulationScheduler.adjust(runContext));
 
         // create a working folder for this run
         Path workDir;
@@ -211,6 +285,48 @@ public class DynamicSimulationWorkerService extends AbstractWorkerService<Dynami
         setupDumpParameters(workDir, t0Parameters);
     }
 
+    /**
+     * Prepare the part of the run which does not depend on its events, shared by the runs of a batch, see {@link PreparedContextCacheService}
+     */
+    private PreparedContext prepareContext(DynamicSimulationRunContext runContext) {
+        // get parsed parameters file from dynamic mapping server,
+        // parsed parameters sets are shared between T0 and T1 parameters
+        List<ParametersSet> modelsParameters = dynamicSimulationObserver.observeStage("parameters",
+                () -> dynamicMappingCacheService.getModelsParameters(runContext.getMappingId()));
+
+        // get mapping then generate dynamic model configs only once
+        List<DynamicModelConfig> dynamicModel = dynamicSimulationObserver.observeStage("dynamic-model", () -> {
+            InputMapping inputMapping = dynamicMappingCacheService.getMapping(runContext.getMappingId());
+            return parametersService.getDynamicModel(inputMapping, runContext.getNetwork());
+        });
+        // the network is read by the mapping, up to the collections loaded lazily
+        networkPreloadingService.recordLoad(runContext.getNetwork());
+
+        // curves
+        OutputVariablesSupplier outputVariablesSupplier = dynamicSimulationObserver.observeStage("curve-model",
+                () -> parametersService.getOutputVariablesSupplier(runContext.getParameters().getCurves()));
+
+        return new PreparedContext(modelsParameters, dynamicModel, outputVariablesSupplier);
+    }
+
+    /**
+     * Hook to derive the T1 dynamic model from the T0 one. The given list is unmodifiable, an implementation
+     * which needs to diverge must return a new list, e.g. copied then modified, leaving the T0 model untouched.
+     *
+     * @return by default the same list as T0
+     */
+    protected List<DynamicModelConfig> deriveT1DynamicModel(DynamicSimulationRunContext runContext, List<DynamicModelConfig> t0DynamicModel) {
+        return t0DynamicModel;
+    }
+
+    /**
+     * Hook to customize the T1 parameters which are built separately from the T0 ones, but share the same parsed models parameters sets.
+     * By default, nothing to customize
+     */
+    protected void customizeT1Parameters(DynamicSimulationRunContext runContext, DynamicSimulationParameters t1Parameters) {
+        // nothing to do by default
+    }
+
     @Override
     public CompletableFuture<DynamicSimulationResult> getCompletableFuture(DynamicSimulationRunContext runContext, String provider, UUID resultUuid) {
 
@@ -218,16 +334,14 @@ public class DynamicSimulationWorkerService extends AbstractWorkerService<Dynami
 
         EventModelsSupplier eventModelsSupplier = new DynawoEventModelsSupplier(runContext.getEventModelContent());
 
-        GroovyOutputVariablesSupplier outputVariablesSupplier = new GroovyOutputVariablesSupplier(
-            new ByteArrayInputStream(runContext.getCurveContent().getBytes()),
-            GroovyExtension.find(OutputVariableGroovyExtension.class, DynawoSimulationProvider.NAME));
+        OutputVariablesSupplier outputVariablesSupplier = runContext.getOutputVariablesSupplier();
 
         DynamicSimulationParameters parameters = runContext.getT0DynamicSimulationParameters();
         LOGGER.info("Run dynamic simulation on network {} and variant {} with mapping {}, startTime {}, stopTime {},",
                 runContext.getNetworkUuid(), runContext.getVariantId(), runContext.getMappingId(), parameters.getStartTime(), parameters.getStopTime());
 
         DynamicSimulation.Runner runner = DynamicSimulation.find(provider);
-        return runner.runAsync(runContext.getNetwork(),
+        CompletableFuture<DynamicSimulationResult> future = runner.runAsync(runContext.getNetwork(),
                 dynamicModelsSupplier,
                 eventModelsSupplier,
                 outputVariablesSupplier,
@@ -235,6 +349,83 @@ public class DynamicSimulationWorkerService extends AbstractWorkerService<Dynami
                 getComputationManager(),
                 parameters,
                 runContext.getReportNode());
+        if (runContext.getSweepRuns().isEmpty()) {
+            return future;
+        }
+
+        // the other runs of the sweep run alongside, the working directory is cleaned once all of them are done
+        LOGGER.info("Run {} other dynamic simulations of the sweep {}", runContext.getSweepRuns().size(), runContext.getBatchId());
+        SimulationSweepService.Sweep sweep = simulationSweepService.runSweep(runContext, createSweepRunner(runContext, provider));
+        CompletableFuture<DynamicSimulationResult> sweepFuture = sweep.getFuture().thenCompose(ignored -> future);
+        sweepFuture.whenComplete((result, throwable) -> {
+            if (throwable instanceof CancellationException) {
+                future.cancel(true);
+                sweep.cancel();
+            }
+        });
+        return sweepFuture;
+    }
+
+    /**
+     * Each run of the sweep gets its own copy of the network, read from a snapshot of the carrying run, and its own dump directory.
+     * The models parameters, the dynamic model, the output variables and the T1 parameters prepared for the carrying run are shared.
+     */
+    private SimulationSweepService.SweepRunner createSweepRunner(DynamicSimulationRunContext runContext, String provider) {
+        String variantId = runContext.getVariantId() != null ? runContext.getVariantId() : VariantManagerConstants.INITIAL_VARIANT_ID;
+        byte[] networkSnapshot = NetworkSnapshotCacheService.writeSnapshot(runContext.getNetwork());
+        List<ParametersSet> modelsParameters = runContext.getModelsParameters();
+        DynamicSimulationParametersInfos parametersInfos = runContext.getParameters();
+
+        return new SimulationSweepService.SweepRunner() {
+            @Override
+            public DynamicSimulationResultContext prepare(SweepRunInfos sweepRun) {
+                DynamicSimulationRunContext sweepRunContext = DynamicSimulationRunContext.builder()
+                        .networkUuid(runContext.getNetworkUuid())
+                        .variantId(runContext.getVariantId())
+                        .receiver(runContext.getReceiver())
+                        .provider(runContext.getProvider())
+                        .mappingId(runContext.getMappingId())
+                        .reportInfos(ReportInfos.builder().build())
+                        .userId(runContext.getUserId())
+                        .parameters(parametersInfos)
+                        .debug(false)
+                        .build();
+                sweepRunContext.setBatchId(runContext.getBatchId());
+                sweepRunContext.setEvents(sweepRun.events());
+                sweepRunContext.setReportNode(ReportNode.NO_OP);
+                sweepRunContext.setNetwork(NetworkSnapshotCacheService.readSnapshot(networkSnapshot, variantId));
+
+                DynamicSimulationParameters t0Parameters = parametersService.getDynamicSimulationParameters(modelsParameters, provider, parametersInfos);
+                t0Parameters.setStartTime(parametersInfos.getStartTime());
+                t0Parameters.setStopTime(parametersInfos.getStopTime());
+                Path workDir = createDirectory(runContext.getWorkDir().resolve(sweepRun.resultUuid().toString()));
+                setupDumpParameters(workDir, t0Parameters);
+                sweepRunContext.setWorkDir(workDir);
+
+                sweepRunContext.setT0DynamicSimulationParameters(t0Parameters);
+                sweepRunContext.setT1DynamicSimulationParameters(runContext.getT1DynamicSimulationParameters());
+                sweepRunContext.setT0DynamicModelContent(runContext.getT0DynamicModelContent());
+                sweepRunContext.setT1DynamicModelContent(runContext.getT1DynamicModelContent());
+                sweepRunContext.setEventModelContent(parametersService.getEventModel(sweepRun.events()));
+                sweepRunContext.setOutputVariablesSupplier(runContext.getOutputVariablesSupplier());
+                return new DynamicSimulationResultContext(sweepRun.resultUuid(), sweepRunContext);
+            }
+
+            @Override
+            public CompletableFuture<DynamicSimulationResult> run(DynamicSimulationResultContext resultContext) {
+                return getCompletableFuture(resultContext.getRunContext(), provider, resultContext.getResultUuid());
+            }
+
+            @Override
+            public void save(DynamicSimulationResultContext resultContext, DynamicSimulationResult result) {
+                saveResult(resultContext.getRunContext().getNetwork(), resultContext, result);
+            }
+
+            @Override
+            public void clean(DynamicSimulationResultContext resultContext) {
+                removeDirectory(resultContext.getRunContext().getWorkDir());
+            }
+        };
     }
 
     @Override
@@ -251,24 +442,42 @@ public class DynamicSimulationWorkerService extends AbstractWorkerService<Dynami
     }
 
     @Bean
-    public Consumer<Message<String>> consumeRun1() {
-        return super.consumeRun();
+    @Override
+    public Consumer<Message<String>> consumeRun() {
+        // the run starts once its estimated memory is admitted on this node
+        Consumer<Message<String>> runConsumer = super.consumeRun();
+        return message -> simulationScheduler.schedule(message, runConsumer);
     }
 
+    /**
+     * Consumer of the high priority lane, with its own reserved slots, runs are processed as those of the normal lane
+     */
     @Bean
-    public Consumer<Message<String>> consumeRun2() {
-        return super.consumeRun();
+    public Consumer<Message<String>> consumeRunHigh() {
+        Consumer<Message<String>> runConsumer = super.consumeRun();
+        return message -> simulationScheduler.schedule(message, runConsumer);
     }
 
+    /**
+     * Consumer of the cancel requests, a run of a sweep in progress on this instance being cancelled alone,
+     * as it is not known by the base worker
+     */
     @Bean
     @Override
     public Consumer<Message<String>> consumeCancel() {
-        return super.consumeCancel();
+        Consumer<Message<String>> cancelConsumer = super.consumeCancel();
+        return message -> {
+            String resultUuid = message.getHeaders().get(HEADER_RESULT_UUID, String.class);
+            if (resultUuid == null || !simulationSweepService.cancel(UUID.fromString(resultUuid))) {
+                cancelConsumer.accept(message);
+            }
+        };
     }
 
     @Override
     protected void clean(AbstractResultContext<DynamicSimulationRunContext> resultContext) {
         super.clean(resultContext);
+        currentNetworkStamp.remove();
         // clean working directory
         Path workDir = resultContext.getRunContext().getWorkDir();
         removeDirectory(workDir);
@@ -304,29 +513,47 @@ public class DynamicSimulationWorkerService extends AbstractWorkerService<Dynami
                 .orElse(null);
     }
 
+    /**
+     * @return the dump file to stream to the db, compressed into a temporary file unless the codec is NONE, null if there is no dump file
+     */
     @Nullable
-    private byte[] zipDumpFile(Path dumpDir) {
-        byte[] outputState = null;
+    private OutputStateFile prepareOutputState(Path dumpDir) {
         try (Stream<Path> files = Files.list(dumpDir)) {
             // dynawo export only one dump file
             Path dumpFile = files.findFirst().orElse(null);
-            if (dumpFile != null) {
-                // ZIP output state
-                outputState = Utils.zip(dumpFile);
+            if (dumpFile == null) {
+                return null;
             }
-
+            ArtifactCodec codec = artifactCompressionService.getCodec();
+            if (codec == ArtifactCodec.NONE) {
+                return new OutputStateFile(dumpFile, codec, false);
+            }
+            Path zippedDumpFile = Files.createTempFile(getComputationManager().getLocalDir(), "outputState", ".dmp.gz");
+            try {
+                artifactCompressionService.compress(dumpFile, zippedDumpFile);
+            } catch (RuntimeException e) {
+                deleteOutputState(zippedDumpFile);
+                throw e;
+            }
+            return new OutputStateFile(zippedDumpFile, codec, true);
         } catch (IOException e) {
             throw new UncheckedIOException(String.format("Error occurred while reading the dump file in the directory %s",
                     dumpDir.toAbsolutePath()), e);
         }
-        return outputState;
+    }
+
+    private static void deleteOutputState(Path outputStateFile) {
+        try {
+            Files.deleteIfExists(outputStateFile);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to delete the output state file {}", outputStateFile.toAbsolutePath(), e);
+        }
     }
 
     private byte[] zipParameters(DynamicSimulationParameters parameters) {
         byte[] zippedJsonParameters;
         try {
-            String jsonParameters = objectMapper.writeValueAsString(parameters);
-            zippedJsonParameters = Utils.zip(jsonParameters);
+            zippedJsonParameters = Utils.zip(os -> objectMapper.writeValue(os, parameters));
         } catch (IOException e) {
             throw new UncheckedIOException("Error occurred while zipping the dynamic simulation parameters", e);
         }
@@ -337,14 +564,22 @@ public class DynamicSimulationWorkerService extends AbstractWorkerService<Dynami
         byte[] zippedJsonDynamicModelContent;
         try {
             // cannot use global shared object mapper for List<DynamicModelConfig> because the Deserializer/Serializer write as an object with "models" root
-            String jsonDynamicModelContent = DynamicModelConfigJsonUtils.createObjectMapper().writeValueAsString(dynamicModelContent);
-            zippedJsonDynamicModelContent = Utils.zip(jsonDynamicModelContent);
+            ObjectMapper dynamicModelObjectMapper = DynamicModelConfigJsonUtils.createObjectMapper();
+            zippedJsonDynamicModelContent = Utils.zip(os -> dynamicModelObjectMapper.writeValue(os, dynamicModelContent));
         } catch (IOException e) {
             throw new UncheckedIOException("Error occurred while zipping the dynamic model", e);
         }
         return zippedJsonDynamicModelContent;
     }
 
+    private static Path createDirectory(Path dir) {
+        try {
+            return Files.createDirectory(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Error occurred while creating the directory %s", dir.toAbsolutePath()), e);
+        }
+    }
+
     private Path createWorkingDirectory() {
         Path workDir;
         Path localDir = getComputationManager().getLocalDir();
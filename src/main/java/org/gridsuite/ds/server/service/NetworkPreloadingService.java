@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.network.store.client.NetworkStoreService;
+import com.powsybl.network.store.client.PreloadingStrategy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.NonNull;
+import org.gridsuite.ds.server.service.cache.NetworkSizeRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading of the networks from the network store with a preloading strategy.
+ * <p>
+ * By default, the configured strategy is used for every network. In adaptive mode, the strategy is chosen from the number
+ * of equipments of the network recorded by a previous run: small networks are bulk loaded with all the collections
+ * needed for the bus view, huge ones are loaded lazily to save memory, the others collection by collection.
+ * A network not run yet by this instance is loaded with the configured strategy.
+ * <p>
+ * The network store only loads the collections on their first access, depending on the strategy, so that the load time
+ * is recorded once the network is actually read by the caller, see {@link #recordLoad}.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Service
+public class NetworkPreloadingService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NetworkPreloadingService.class);
+
+    public static final String PRELOADING_METER_NAME = "ds.network.preloading";
+    public static final String LOAD_METER_NAME = "ds.network.load";
+    public static final String STRATEGY_TAG_NAME = "strategy";
+
+    private final NetworkStoreService networkStoreService;
+    private final NetworkSizeRegistry networkSizeRegistry;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean adaptive;
+    private final PreloadingStrategy defaultStrategy;
+    private final long smallNetworkMaxEquipments;
+    private final long largeNetworkMinEquipments;
+
+    /**
+     * Load of a network not read yet
+     */
+    private record PendingLoad(UUID networkUuid, PreloadingStrategy strategy, long startTime) {
+    }
+
+    // by network instance, a network dropped before being read is not recorded
+    private final Map<Network, PendingLoad> pendingLoads = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // strategies of the loaded networks, by network instance
+    private final Map<Network, PreloadingStrategy> loadStrategies = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public NetworkPreloadingService(NetworkStoreService networkStoreService,
+                                    NetworkSizeRegistry networkSizeRegistry,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${dynamic-simulation.network.preloading.adaptive:false}") boolean adaptive,
+                                    @Value("${dynamic-simulation.network.preloading.strategy:COLLECTION}") PreloadingStrategy defaultStrategy,
+                                    @Value("${dynamic-simulation.network.preloading.small-network-max-equipments:5000}") long smallNetworkMaxEquipments,
+                                    @Value("${dynamic-simulation.network.preloading.large-network-min-equipments:200000}") long largeNetworkMinEquipments) {
+        this.networkStoreService = networkStoreService;
+        this.networkSizeRegistry = networkSizeRegistry;
+        this.meterRegistry = meterRegistry;
+        this.adaptive = adaptive;
+        this.defaultStrategy = defaultStrategy;
+        this.smallNetworkMaxEquipments = smallNetworkMaxEquipments;
+        this.largeNetworkMinEquipments = largeNetworkMinEquipments;
+    }
+
+    /**
+     * @return the preloading strategy of the given network
+     */
+    public PreloadingStrategy getPreloadingStrategy(@NonNull UUID networkUuid) {
+        if (!adaptive) {
+            return defaultStrategy;
+        }
+        OptionalLong equipmentCount = networkSizeRegistry.getEquipmentCount(networkUuid);
+        if (equipmentCount.isEmpty()) {
+            return defaultStrategy;
+        }
+        if (equipmentCount.getAsLong() <= smallNetworkMaxEquipments) {
+            return PreloadingStrategy.ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW;
+        }
+        if (equipmentCount.getAsLong() >= largeNetworkMinEquipments) {
+            return PreloadingStrategy.NONE;
+        }
+        return PreloadingStrategy.COLLECTION;
+    }
+
+    /**
+     * Load the given network with its preloading strategy, the choice being recorded by strategy
+     */
+    public Network getNetwork(@NonNull UUID networkUuid) {
+        PreloadingStrategy strategy = getPreloadingStrategy(networkUuid);
+        Counter.builder(PRELOADING_METER_NAME).tag(STRATEGY_TAG_NAME, strategy.name()).register(meterRegistry).increment();
+        long startTime = System.nanoTime();
+        Network network = networkStoreService.getNetwork(networkUuid, strategy);
+        pendingLoads.put(network, new PendingLoad(networkUuid, strategy, startTime));
+        loadStrategies.put(network, strategy);
+        return network;
+    }
+
+    /**
+     * @return true if the given network is loaded lazily, i.e. a collection is only loaded identifiable by identifiable,
+     * counting its identifiables loading the whole collection
+     */
+    public boolean isLoadedLazily(Network network) {
+        return loadStrategies.get(network) == PreloadingStrategy.NONE;
+    }
+
+    /**
+     * Record by strategy the load time of a network given by {@link #getNetwork}, up to now, once the network is read
+     * by the caller, e.g. once the dynamic model is built from it. A network already recorded is ignored
+     */
+    public void recordLoad(Network network) {
+        PendingLoad pendingLoad = pendingLoads.remove(network);
+        if (pendingLoad == null) {
+            return;
+        }
+        long duration = System.nanoTime() - pendingLoad.startTime();
+        Timer.builder(LOAD_METER_NAME).tag(STRATEGY_TAG_NAME, pendingLoad.strategy().name()).register(meterRegistry)
+                .record(duration, TimeUnit.NANOSECONDS);
+        LOGGER.debug("Network {} loaded with the preloading strategy {} in {} ms", pendingLoad.networkUuid(), pendingLoad.strategy(),
+                TimeUnit.NANOSECONDS.toMillis(duration));
+    }
+}
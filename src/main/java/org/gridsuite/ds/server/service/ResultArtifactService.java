@@ -0,0 +1,501 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service;
+
+import org.gridsuite.ds.server.repository.ResultArtifactRepository;
+import org.gridsuite.ds.server.repository.ResultArtifactRepository.ArtifactInfos;
+import org.gridsuite.ds.server.repository.ResultArtifactType;
+import org.gridsuite.ds.server.utils.ArtifactCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Tiered storage of the result contents: contents above a threshold are offloaded to the object storage,
+ * the db only keeping their key, length and SHA-256 checksum, smaller contents stay in the result table.
+ * Contents are streamed in both cases, and the codec of each content is recorded to be given to readers.
+ * <p>
+ * Contents are uploaded to the object storage before the transaction recording them, so that no pooled connection is
+ * held during the upload, and offloaded contents are deleted once the deletion of their results is committed,
+ * so that the db never references a missing object.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Service
+public class ResultArtifactService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultArtifactService.class);
+
+    // maximum number of keys of a delete objects request
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    /**
+     * Stored content and its codec
+     */
+    public record ResultArtifact(Resource resource, ArtifactCodec codec) {
+    }
+
+    /**
+     * Content to save, read from a file or from memory
+     */
+    public record ArtifactContent(ResultArtifactType type, Path file, byte[] bytes, ArtifactCodec codec) {
+
+        public ArtifactContent {
+            Objects.requireNonNull(type);
+            Objects.requireNonNull(codec);
+            if ((file == null) == (bytes == null)) {
+                throw new IllegalArgumentException("A content is read either from a file or from memory");
+            }
+        }
+
+        public static ArtifactContent of(ResultArtifactType type, Path file, ArtifactCodec codec) {
+            return new ArtifactContent(type, file, null, codec);
+        }
+
+        public static ArtifactContent of(ResultArtifactType type, byte[] bytes, ArtifactCodec codec) {
+            return new ArtifactContent(type, null, bytes, codec);
+        }
+
+        private long length() throws IOException {
+            return file != null ? Files.size(file) : bytes.length;
+        }
+    }
+
+    private final ResultArtifactRepository resultArtifactRepository;
+
+    // null when offloading is disabled
+    private final S3Client s3Client;
+
+    private final String bucketName;
+
+    private final String s3Subpath;
+
+    private final long offloadThreshold;
+
+    private final int partSize;
+
+    public ResultArtifactService(ResultArtifactRepository resultArtifactRepository,
+                                 ObjectProvider<S3Client> s3ClientProvider,
+                                 @Value("${dynamic-simulation.result.artifact.s3.enabled:false}") boolean offloadEnabled,
+                                 @Value("${dynamic-simulation.result.artifact.s3.threshold:10MB}") DataSize offloadThreshold,
+                                 @Value("${dynamic-simulation.result.artifact.s3.subpath:results}") String s3Subpath,
+                                 @Value("${dynamic-simulation.result.artifact.s3.part-size:64MB}") DataSize partSize,
+                                 @Value("${spring.cloud.aws.bucket:ws-bucket}") String bucketName) {
+        this.resultArtifactRepository = resultArtifactRepository;
+        S3Client client = offloadEnabled ? s3ClientProvider.getIfAvailable() : null;
+        if (offloadEnabled && client == null) {
+            LOGGER.warn("Offloading of result contents is enabled but no S3 client is available, contents are kept in the db");
+        }
+        this.s3Client = client;
+        this.offloadThreshold = offloadThreshold.toBytes();
+        this.s3Subpath = s3Subpath;
+        // parts are mapped into a single buffer
+        this.partSize = Math.toIntExact(partSize.toBytes());
+        this.bucketName = bucketName;
+    }
+
+    private boolean isOffloaded(long length) {
+        return s3Client != null && length > offloadThreshold;
+    }
+
+    private String buildS3Key(UUID resultUuid, ResultArtifactType type, ArtifactCodec codec) {
+        return s3Subpath + "/" + resultUuid + "/" + type.name().toLowerCase() + (codec.isGzipFormat() ? ".gz" : "");
+    }
+
+    /**
+     * Upload the contents above the threshold to the object storage, to be called out of any transaction.
+     * The contents already uploaded are deleted if an upload fails
+     *
+     * @return the descriptions of the offloaded contents by type, to be recorded by {@link #save}
+     */
+    public Map<ResultArtifactType, ArtifactInfos> offload(UUID resultUuid, List<ArtifactContent> contents) {
+        Map<ResultArtifactType, ArtifactInfos> offloadedArtifacts = new EnumMap<>(ResultArtifactType.class);
+        try {
+            for (ArtifactContent content : contents) {
+                long length = content.length();
+                if (isOffloaded(length)) {
+                    offloadedArtifacts.put(content.type(), content.file() != null ?
+                            offload(resultUuid, content.type(), content.file(), length, content.codec()) :
+                            offload(resultUuid, content.type(), RequestBody.fromBytes(content.bytes()), length,
+                                    sha256(new ByteArrayInputStream(content.bytes())), content.codec()));
+                }
+            }
+        } catch (IOException e) {
+            deleteUnreferenced(offloadedArtifacts.values());
+            throw new UncheckedIOException("Error occurred while offloading the contents of the result " + resultUuid, e);
+        } catch (RuntimeException e) {
+            deleteUnreferenced(offloadedArtifacts.values());
+            throw e;
+        }
+        return offloadedArtifacts;
+    }
+
+    /**
+     * Record the contents in the db, the offloaded ones being only referenced
+     *
+     * @param offloadedArtifacts contents previously uploaded by {@link #offload}
+     */
+    public void save(UUID resultUuid, List<ArtifactContent> contents, Map<ResultArtifactType, ArtifactInfos> offloadedArtifacts) {
+        for (ArtifactContent content : contents) {
+            ArtifactInfos offloadedArtifact = offloadedArtifacts.get(content.type());
+            if (offloadedArtifact != null) {
+                resultArtifactRepository.saveInfos(resultUuid, content.type(), offloadedArtifact);
+                continue;
+            }
+            long length;
+            if (content.file() != null) {
+                try {
+                    length = content.length();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Error occurred while saving the file " + content.file().toAbsolutePath(), e);
+                }
+                resultArtifactRepository.write(resultUuid, content.type(), content.file());
+            } else {
+                length = content.bytes().length;
+                resultArtifactRepository.write(resultUuid, content.type(), new ByteArrayInputStream(content.bytes()), length);
+            }
+            resultArtifactRepository.saveInfos(resultUuid, content.type(), new ArtifactInfos(null, length, null, content.codec()));
+        }
+    }
+
+    /**
+     * Offload a file, read through memory mappings: its content never goes through the heap, the pages read for
+     * the checksum being reused by the upload. Files larger than a part are uploaded by parts of a multipart upload
+     */
+    private ArtifactInfos offload(UUID resultUuid, ResultArtifactType type, Path file, long length, ArtifactCodec codec) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (length <= partSize) {
+                MappedByteBuffer content = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+                MessageDigest digest = newSha256();
+                digest.update(content.duplicate());
+                String checksum = HexFormat.of().formatHex(digest.digest());
+                return offload(resultUuid, type, fromMappedContent(content), length, checksum, codec);
+            } else {
+                return offloadByParts(resultUuid, type, channel, length, codec);
+            }
+        }
+    }
+
+    private ArtifactInfos offloadByParts(UUID resultUuid, ResultArtifactType type, FileChannel channel, long length, ArtifactCodec codec) throws IOException {
+        String s3Key = buildS3Key(resultUuid, type, codec);
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key)
+                .build()).uploadId();
+        try {
+            MessageDigest digest = newSha256();
+            List<CompletedPart> completedParts = new ArrayList<>();
+            int partNumber = 1;
+            for (long position = 0; position < length; position += partSize, partNumber++) {
+                long partLength = Math.min(partSize, length - position);
+                MappedByteBuffer part = channel.map(FileChannel.MapMode.READ_ONLY, position, partLength);
+                digest.update(part.duplicate());
+                UploadPartResponse uploadPartResponse = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucketName)
+                        .key(s3Key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength(partLength)
+                        .build(), fromMappedContent(part));
+                completedParts.add(CompletedPart.builder().partNumber(partNumber).eTag(uploadPartResponse.eTag()).build());
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+            LOGGER.debug("Result content {} of {} offloaded to {} in {} parts ({} bytes)", type, resultUuid, s3Key, completedParts.size(), length);
+            return new ArtifactInfos(s3Key, length, HexFormat.of().formatHex(digest.digest()), codec);
+        } catch (RuntimeException | IOException e) {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .uploadId(uploadId)
+                    .build());
+            throw e;
+        }
+    }
+
+    /**
+     * @return a request body streaming a mapped content, a new stream being created on each retry
+     */
+    private static RequestBody fromMappedContent(MappedByteBuffer content) {
+        return RequestBody.fromContentProvider(() -> new ByteBufferInputStream(content.duplicate()), content.remaining(), MediaType.APPLICATION_OCTET_STREAM_VALUE);
+    }
+
+    private ArtifactInfos offload(UUID resultUuid, ResultArtifactType type, RequestBody requestBody, long length, String checksum, ArtifactCodec codec) {
+        String s3Key = buildS3Key(resultUuid, type, codec);
+        s3Client.putObject(PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key)
+                .contentLength(length)
+                .build(), requestBody);
+        LOGGER.debug("Result content {} of {} offloaded to {} ({} bytes)", type, resultUuid, s3Key, length);
+        return new ArtifactInfos(s3Key, length, checksum, codec);
+    }
+
+    /**
+     * @return the content streamed from the object storage or the db, null if the result has no such content.
+     * Contents saved before codecs were recorded are gzip contents
+     */
+    public ResultArtifact getArtifact(UUID resultUuid, ResultArtifactType type) {
+        Optional<ArtifactInfos> artifactInfos = resultArtifactRepository.findInfos(resultUuid, type);
+        ArtifactCodec codec = artifactInfos.map(ArtifactInfos::codec).orElse(ArtifactCodec.GZIP);
+        if (artifactInfos.filter(ArtifactInfos::isOffloaded).isPresent() && s3Client == null) {
+            throw new IllegalStateException("Result content " + type + " of " + resultUuid + " is offloaded to "
+                    + artifactInfos.get().s3Key() + " but offloading is disabled or no S3 client is available");
+        }
+        Resource resource = artifactInfos.filter(ArtifactInfos::isOffloaded).isPresent() ?
+                new S3ArtifactResource(artifactInfos.get()) :
+                resultArtifactRepository.getResource(resultUuid, type);
+        return resource != null ? new ResultArtifact(resource, codec) : null;
+    }
+
+    /**
+     * Delete the offloaded contents of the given result, of all results if null. Db rows are deleted along with the results,
+     * objects once the deletion is committed, if called in a transaction
+     */
+    public void deleteOffloaded(UUID resultUuid) {
+        List<String> s3Keys = resultArtifactRepository.findOffloadedKeys(resultUuid);
+        if (s3Keys.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    try {
+                        deleteObjects(s3Keys);
+                    } catch (RuntimeException e) {
+                        // the results are deleted anyway, the objects are only orphaned
+                        LOGGER.error("Unable to delete {} offloaded result contents", s3Keys.size(), e);
+                    }
+                }
+            });
+        } else {
+            deleteObjects(s3Keys);
+        }
+    }
+
+    /**
+     * Delete offloaded contents which are not referenced by the db, e.g. when the transaction recording them is rolled back
+     */
+    public void deleteUnreferenced(Collection<ArtifactInfos> offloadedArtifacts) {
+        List<String> s3Keys = offloadedArtifacts.stream().map(ArtifactInfos::s3Key).filter(Objects::nonNull).toList();
+        if (s3Keys.isEmpty()) {
+            return;
+        }
+        try {
+            deleteObjects(s3Keys);
+        } catch (RuntimeException e) {
+            LOGGER.error("Unable to delete {} unreferenced offloaded result contents", s3Keys.size(), e);
+        }
+    }
+
+    private void deleteObjects(List<String> s3Keys) {
+        if (s3Client == null) {
+            LOGGER.warn("Unable to delete {} offloaded result contents, no S3 client is available", s3Keys.size());
+            return;
+        }
+        for (int i = 0; i < s3Keys.size(); i += DELETE_BATCH_SIZE) {
+            List<ObjectIdentifier> objectIdentifiers = s3Keys.subList(i, Math.min(i + DELETE_BATCH_SIZE, s3Keys.size())).stream()
+                    .map(s3Key -> ObjectIdentifier.builder().key(s3Key).build())
+                    .toList();
+            s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder().objects(objectIdentifiers).quiet(true).build())
+                    .build());
+        }
+    }
+
+    private static String sha256(InputStream is) throws IOException {
+        MessageDigest digest = newSha256();
+        try (DigestInputStream dis = new DigestInputStream(is, digest)) {
+            dis.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required on every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Input stream reading a buffer, mapped contents being copied by small reads only
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return len == 0 ? 0 : -1;
+            }
+            int length = Math.min(len, buffer.remaining());
+            buffer.get(b, off, length);
+            return length;
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    /**
+     * Resource streaming an offloaded content. The object is only requested on the first read,
+     * from the offset reached by the previous skips, so that HTTP range requests are served by S3 range requests.
+     */
+    private final class S3ArtifactResource extends AbstractResource {
+
+        private final ArtifactInfos offloadedArtifact;
+
+        private S3ArtifactResource(ArtifactInfos offloadedArtifact) {
+            this.offloadedArtifact = offloadedArtifact;
+        }
+
+        @Override
+        public String getDescription() {
+            return "Offloaded result content " + offloadedArtifact.s3Key();
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public long contentLength() {
+            return offloadedArtifact.length();
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new InputStream() {
+
+                private long offset;
+
+                private InputStream delegate;
+
+                private InputStream delegate() {
+                    if (delegate == null) {
+                        GetObjectRequest.Builder request = GetObjectRequest.builder()
+                                .bucket(bucketName)
+                                .key(offloadedArtifact.s3Key());
+                        if (offset > 0) {
+                            request.range("bytes=" + offset + "-");
+                        }
+                        delegate = s3Client.getObject(request.build());
+                    }
+                    return delegate;
+                }
+
+                @Override
+                public int read() throws IOException {
+                    if (delegate == null && offset >= offloadedArtifact.length()) {
+                        return -1;
+                    }
+                    return delegate().read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    if (delegate == null && offset >= offloadedArtifact.length()) {
+                        return -1;
+                    }
+                    return delegate().read(b, off, len);
+                }
+
+                @Override
+                public long skip(long n) throws IOException {
+                    if (delegate != null) {
+                        return delegate.skip(n);
+                    }
+                    long skipped = Math.max(0, Math.min(n, offloadedArtifact.length() - offset));
+                    offset += skipped;
+                    return skipped;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    if (delegate != null) {
+                        delegate.close();
+                    }
+                }
+            };
+        }
+    }
+}
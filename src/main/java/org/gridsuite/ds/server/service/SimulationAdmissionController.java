@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service;
+
+import org.gridsuite.ds.server.dto.RunPriority;
+import org.gridsuite.ds.server.utils.NodeResources;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission of the runs against the memory budget of the node, so that this instance does not start more Dynawo processes
+ * than the node can hold whatever the number of concurrent consumers.
+ * <p>
+ * A run is admitted once its estimated memory, see {@link SimulationCostEstimator}, is available in the budget,
+ * a run estimated above the whole budget being admitted alone. The reserved share of the budget is only available
+ * to the high priority runs, so that an interactive run is not stuck behind the runs of batch studies.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Service
+public class SimulationAdmissionController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SimulationAdmissionController.class);
+
+    private static final long PERMIT_SIZE = DataSize.ofMegabytes(1).toBytes();
+
+    // in MB, fair so that a large run is not overtaken forever by smaller ones
+    private final Semaphore budget;
+
+    // in MB, part of the budget open to the normal priority runs, taken before the budget itself
+    private final Semaphore normalBudget;
+
+    private final int budgetPermits;
+
+    private final int normalBudgetPermits;
+
+    public SimulationAdmissionController(@Value("${dynamic-simulation.worker.admission.memory-budget:0B}") DataSize memoryBudget,
+                                         @Value("${dynamic-simulation.worker.high-priority.reserved-share:0.25}") double reservedShare) {
+        long budgetBytes = memoryBudget.toBytes() > 0 ? memoryBudget.toBytes() : NodeResources.getAvailableMemory();
+        // unknown memory, every run is admitted
+        this.budgetPermits = budgetBytes > 0 ? (int) Math.min(Integer.MAX_VALUE, budgetBytes / PERMIT_SIZE) : Integer.MAX_VALUE;
+        this.normalBudgetPermits = (int) Math.max(1, Math.round(budgetPermits * (1 - Math.min(1, Math.max(0, reservedShare)))));
+        this.budget = new Semaphore(budgetPermits, true);
+        this.normalBudget = new Semaphore(normalBudgetPermits, true);
+        LOGGER.info("Dynamic simulation admission memory budget: {} MB, {} MB for normal priority runs", budgetPermits, normalBudgetPermits);
+    }
+
+    private int toPermits(long memory, RunPriority priority) {
+        int maxPermits = priority == RunPriority.HIGH ? budgetPermits : normalBudgetPermits;
+        return (int) Math.min(maxPermits, Math.max(1, (memory + PERMIT_SIZE - 1) / PERMIT_SIZE));
+    }
+
+    /**
+     * Take the given permits from the budgets of the given priority, waiting at most the given timeout, or without limit if null
+     *
+     * @return true if the permits are taken
+     */
+    private boolean acquire(int permits, RunPriority priority, Duration timeout) throws InterruptedException {
+        if (priority == RunPriority.HIGH) {
+            return tryAcquire(budget, permits, timeout);
+        }
+        long startTime = System.nanoTime();
+        if (!tryAcquire(normalBudget, permits, timeout)) {
+            return false;
+        }
+        boolean acquired = false;
+        try {
+            acquired = tryAcquire(budget, permits, timeout != null ? timeout.minusNanos(System.nanoTime() - startTime) : null);
+        } finally {
+            if (!acquired) {
+                normalBudget.release(permits);
+            }
+        }
+        return acquired;
+    }
+
+    private static boolean tryAcquire(Semaphore semaphore, int permits, Duration timeout) throws InterruptedException {
+        if (timeout == null) {
+            semaphore.acquire(permits);
+            return true;
+        }
+        return semaphore.tryAcquire(permits, Math.max(0, timeout.toNanos()), TimeUnit.NANOSECONDS);
+    }
+
+    private void release(int permits, RunPriority priority) {
+        budget.release(permits);
+        if (priority != RunPriority.HIGH) {
+            normalBudget.release(permits);
+        }
+    }
+
+    /**
+     * Wait until the given memory is available in the budget of the given priority
+     *
+     * @return the admission to close once the run is done
+     */
+    public Admission admit(long estimatedMemory, RunPriority priority) throws InterruptedException {
+        int permits = toPermits(estimatedMemory, priority);
+        if (!acquire(permits, priority, Duration.ZERO)) {
+            LOGGER.info("Waiting for {} MB of the admission memory budget, {} MB available", permits, budget.availablePermits());
+            acquire(permits, priority, null);
+        }
+        return new Admission(permits, priority);
+    }
+
+    /**
+     * Wait at most the given timeout until the given memory is available in the budget of the given priority
+     *
+     * @return the admission to close once the run is done, null if the memory is still not available after the timeout
+     */
+    public Admission tryAdmit(long estimatedMemory, RunPriority priority, Duration timeout) throws InterruptedException {
+        int permits = toPermits(estimatedMemory, priority);
+        return acquire(permits, priority, timeout) ? new Admission(permits, priority) : null;
+    }
+
+    public int getAvailableBudget() {
+        return budget.availablePermits();
+    }
+
+    /**
+     * Memory taken from the budget by an admitted run, given back once closed
+     */
+    public final class Admission implements AutoCloseable {
+
+        private final RunPriority priority;
+
+        private int permits;
+
+        private boolean released;
+
+        private Admission(int permits, RunPriority priority) {
+            this.permits = permits;
+            this.priority = priority;
+        }
+
+        /**
+         * @return the admitted memory in bytes
+         */
+        public synchronized long getAdmittedMemory() {
+            return permits * PERMIT_SIZE;
+        }
+
+        /**
+         * Extend the admitted memory to the given one, waiting at most the given timeout for the extra memory.
+         * As runs waiting for each other's memory would never end, the run goes on anyway after the timeout
+         *
+         * @return true if the admitted memory covers the given one
+         */
+        public boolean extend(long estimatedMemory, Duration timeout) throws InterruptedException {
+            int extraPermits;
+            synchronized (this) {
+                extraPermits = released ? 0 : toPermits(estimatedMemory, priority) - permits;
+            }
+            if (extraPermits <= 0) {
+                return true;
+            }
+            if (!acquire(extraPermits, priority, timeout)) {
+                return false;
+            }
+            synchronized (this) {
+                permits += extraPermits;
+            }
+            return true;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!released) {
+                released = true;
+                release(permits, priority);
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service;
+
+import org.gridsuite.ds.server.dto.DynamicSimulationParametersInfos;
+import org.gridsuite.ds.server.service.cache.NetworkSizeRegistry;
+import org.gridsuite.ds.server.service.contexts.DynamicSimulationRunContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Estimation of the memory of a run, i.e. its cost, from the size of its network, the number of dynamic models,
+ * the number of curves and the simulated duration.
+ * <p>
+ * Before the network is loaded, sizes recorded by a previous run on the same network are used, or defaults otherwise.
+ * Equipments of a network loaded lazily are not counted, as counting them would load all of its collections.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Service
+public class SimulationCostEstimator {
+
+    /**
+     * Factors of the cost of a run
+     */
+    public record RunSize(long equipmentCount, int dynamicModelCount, int curveCount, double simulatedDuration) {
+    }
+
+    private final NetworkSizeRegistry networkSizeRegistry;
+    private final NetworkPreloadingService networkPreloadingService;
+
+    private final long baseMemory;
+    private final long memoryPerEquipment;
+    private final long memoryPerDynamicModel;
+    private final long memoryPerCurveSecond;
+
+    private final long defaultEquipmentCount;
+    private final int defaultDynamicModelCount;
+
+    public SimulationCostEstimator(NetworkSizeRegistry networkSizeRegistry,
+                                   NetworkPreloadingService networkPreloadingService,
+                                   @Value("${dynamic-simulation.worker.admission.base-memory:512MB}") DataSize baseMemory,
+                                   @Value("${dynamic-simulation.worker.admission.memory-per-equipment:64KB}") DataSize memoryPerEquipment,
+                                   @Value("${dynamic-simulation.worker.admission.memory-per-dynamic-model:256KB}") DataSize memoryPerDynamicModel,
+                                   @Value("${dynamic-simulation.worker.admission.memory-per-curve-second:1KB}") DataSize memoryPerCurveSecond,
+                                   @Value("${dynamic-simulation.worker.admission.default-equipment-count:10000}") long defaultEquipmentCount,
+                                   @Value("${dynamic-simulation.worker.admission.default-dynamic-model-count:1000}") int defaultDynamicModelCount) {
+        this.networkSizeRegistry = networkSizeRegistry;
+        this.networkPreloadingService = networkPreloadingService;
+        this.baseMemory = baseMemory.toBytes();
+        this.memoryPerEquipment = memoryPerEquipment.toBytes();
+        this.memoryPerDynamicModel = memoryPerDynamicModel.toBytes();
+        this.memoryPerCurveSecond = memoryPerCurveSecond.toBytes();
+        this.defaultEquipmentCount = defaultEquipmentCount;
+        this.defaultDynamicModelCount = defaultDynamicModelCount;
+    }
+
+    /**
+     * @return the estimated memory in bytes of a run of the given size
+     */
+    public long estimate(RunSize runSize) {
+        return baseMemory
+                + runSize.equipmentCount() * memoryPerEquipment
+                + runSize.dynamicModelCount() * memoryPerDynamicModel
+                + (long) (runSize.curveCount() * Math.max(0, runSize.simulatedDuration()) * memoryPerCurveSecond);
+    }
+
+    /**
+     * @return the size of a run whose network is not loaded yet, from the recorded sizes if any
+     */
+    public RunSize getExpectedSize(DynamicSimulationRunContext runContext) {
+        long equipmentCount = networkSizeRegistry.getEquipmentCount(runContext.getNetworkUuid()).orElse(defaultEquipmentCount);
+        int dynamicModelCount = runContext.getMappingId() != null ?
+                networkSizeRegistry.getDynamicModelCount(runContext.getNetworkUuid(), runContext.getMappingId()).orElse(defaultDynamicModelCount) :
+                defaultDynamicModelCount;
+        return new RunSize(equipmentCount, dynamicModelCount, getCurveCount(runContext), getSimulatedDuration(runContext));
+    }
+
+    /**
+     * @return the size of a run whose network is loaded and dynamic model generated, which is recorded for next runs.
+     * The equipments of a network loaded lazily are not counted, the recorded or default count being kept
+     */
+    public RunSize getActualSize(DynamicSimulationRunContext runContext) {
+        long equipmentCount;
+        if (networkPreloadingService.isLoadedLazily(runContext.getNetwork())) {
+            equipmentCount = networkSizeRegistry.getEquipmentCount(runContext.getNetworkUuid()).orElse(defaultEquipmentCount);
+        } else {
+            equipmentCount = NetworkSizeRegistry.getEquipmentCount(runContext.getNetwork());
+            networkSizeRegistry.recordEquipmentCount(runContext.getNetworkUuid(), equipmentCount);
+        }
+        int dynamicModelCount = Optional.ofNullable(runContext.getT0DynamicModelContent()).map(List::size).orElse(0);
+        if (runContext.getMappingId() != null) {
+            networkSizeRegistry.recordDynamicModelCount(runContext.getNetworkUuid(), runContext.getMappingId(), dynamicModelCount);
+        }
+        return new RunSize(equipmentCount, dynamicModelCount, getCurveCount(runContext), getSimulatedDuration(runContext));
+    }
+
+    private static int getCurveCount(DynamicSimulationRunContext runContext) {
+        DynamicSimulationParametersInfos parameters = runContext.getParameters();
+        return parameters != null && !CollectionUtils.isEmpty(parameters.getCurves()) ? parameters.getCurves().size() : 0;
+    }
+
+    private static double getSimulatedDuration(DynamicSimulationRunContext runContext) {
+        DynamicSimulationParametersInfos parameters = runContext.getParameters();
+        if (parameters == null || parameters.getStopTime() == null) {
+            return 0;
+        }
+        return parameters.getStopTime() - Optional.ofNullable(parameters.getStartTime()).orElse(0.0);
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.gridsuite.computation.service.NotificationService;
+import org.gridsuite.ds.server.dto.RunPriority;
+import org.gridsuite.ds.server.service.SimulationAdmissionController.Admission;
+import org.gridsuite.ds.server.service.contexts.DynamicSimulationResultContext;
+import org.gridsuite.ds.server.service.contexts.DynamicSimulationRunContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.gridsuite.ds.server.service.DynamicSimulationService.COMPUTATION_TYPE;
+
+/**
+ * Scheduler of the runs received by this instance.
+ * <p>
+ * The cost of a run, i.e. its estimated memory, is admitted against the memory budget of the node before the run starts.
+ * A run whose cost is not admitted right away is sent to the retry queue of its lane, without holding the consumer,
+ * the broker sending it back to its lane after the requeue delay, see {@link org.gridsuite.ds.server.config.RunRetryConfig},
+ * so that it can be picked up by an instance with more free memory, or overtaken by a smaller run fitting the budget.
+ * A run still not admitted after the maximum number of requeues fails.
+ * A high priority run never waits for memory on its consumer, neither to be admitted nor to be adjusted.
+ * Once the network is loaded and the dynamic model generated, the admitted cost is adjusted to the actual size of the run.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Service
+public class SimulationScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SimulationScheduler.class);
+
+    public static final String RUN_RETRY_OUTPUT_BINDING = "publishRunRetry-out-0";
+    public static final String RUN_HIGH_PRIORITY_RETRY_OUTPUT_BINDING = "publishRunHighRetry-out-0";
+
+    public static final String HEADER_REQUEUE_COUNT = "requeueCount";
+    public static final String HEADER_QUEUED_AT = "queuedAt";
+
+    public static final String QUEUE_WAIT_METER_NAME = "ds.scheduler.queue.wait";
+    public static final String ADMITTED_COST_METER_NAME = "ds.scheduler.admitted.cost";
+    public static final String REJECTION_METER_NAME = "ds.scheduler.rejections";
+    public static final String AVAILABLE_BUDGET_METER_NAME = "ds.scheduler.budget.available";
+    public static final String PRIORITY_TAG_NAME = "priority";
+
+    private final SimulationAdmissionController admissionController;
+    private final SimulationCostEstimator costEstimator;
+    private final StreamBridge streamBridge;
+    private final NotificationService notificationService;
+    private final DynamicSimulationResultService resultService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Duration maxWait;
+    private final int maxRequeues;
+
+    // admission of the run in progress on the consumer thread, the run consumer being synchronous
+    private final ThreadLocal<Admission> currentAdmission = new ThreadLocal<>();
+
+    public SimulationScheduler(SimulationAdmissionController admissionController,
+                               SimulationCostEstimator costEstimator,
+                               StreamBridge streamBridge,
+                               NotificationService notificationService,
+                               DynamicSimulationResultService resultService,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${dynamic-simulation.worker.scheduler.max-wait:PT30S}") Duration maxWait,
+                               @Value("${dynamic-simulation.worker.scheduler.max-requeues:30}") int maxRequeues) {
+        this.admissionController = admissionController;
+        this.costEstimator = costEstimator;
+        this.streamBridge = streamBridge;
+        this.notificationService = notificationService;
+        this.resultService = resultService;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.maxWait = maxWait;
+        this.maxRequeues = maxRequeues;
+        Gauge.builder(AVAILABLE_BUDGET_METER_NAME, admissionController, SimulationAdmissionController::getAvailableBudget)
+                .baseUnit("megabytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run the given consumer on the given run message if the cost of the run is admitted, requeue the message otherwise,
+     * the consumer thread never waiting for the memory budget
+     */
+    public void schedule(Message<String> message, Consumer<Message<String>> runConsumer) {
+        DynamicSimulationResultContext resultContext;
+        try {
+            resultContext = DynamicSimulationResultContext.fromMessage(message, objectMapper);
+        } catch (RuntimeException e) {
+            // invalid message, its failure is handled by the run consumer
+            runConsumer.accept(message);
+            return;
+        }
+        UUID resultUuid = resultContext.getResultUuid();
+        RunPriority priority = resultContext.getRunContext().getPriority();
+        long cost = costEstimator.estimate(costEstimator.getExpectedSize(resultContext.getRunContext()));
+
+        MessageHeaders headers = message.getHeaders();
+        int requeueCount = headers.containsKey(HEADER_REQUEUE_COUNT) ? Integer.parseInt(headers.get(HEADER_REQUEUE_COUNT).toString()) : 0;
+        long queuedAt = headers.containsKey(HEADER_QUEUED_AT) ? Long.parseLong(headers.get(HEADER_QUEUED_AT).toString()) : System.currentTimeMillis();
+
+        Admission admission;
+        try {
+            admission = admissionController.tryAdmit(cost, priority, Duration.ZERO);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while scheduling the run " + resultUuid, e);
+        }
+        if (admission == null) {
+            Counter.builder(REJECTION_METER_NAME).tag(PRIORITY_TAG_NAME, priority.name()).register(meterRegistry).increment();
+            if (requeueCount < maxRequeues) {
+                LOGGER.info("Run {} with an estimated cost of {} MB is not admitted, requeued", resultUuid, cost >> 20);
+                requeue(message, priority, requeueCount + 1, queuedAt);
+            } else {
+                fail(resultContext, cost);
+            }
+            return;
+        }
+
+        // queue wait by priority, to measure the effect of the high priority lane on mixed workloads
+        Timer.builder(QUEUE_WAIT_METER_NAME).tag(PRIORITY_TAG_NAME, priority.name()).register(meterRegistry)
+                .record(Math.max(0, System.currentTimeMillis() - queuedAt), TimeUnit.MILLISECONDS);
+        DistributionSummary.builder(ADMITTED_COST_METER_NAME).baseUnit("bytes").tag(PRIORITY_TAG_NAME, priority.name()).register(meterRegistry)
+                .record(cost);
+        currentAdmission.set(admission);
+        try {
+            runConsumer.accept(message);
+        } finally {
+            currentAdmission.remove();
+            admission.close();
+        }
+    }
+
+    /**
+     * Adjust the admitted cost of the run in progress on the calling thread to its actual size,
+     * once its network is loaded and its dynamic model generated, a high priority run not waiting for the extra memory
+     *
+     * @return true if the admitted cost covers the actual one
+     */
+    public boolean adjust(DynamicSimulationRunContext runContext) {
+        long cost = costEstimator.estimate(costEstimator.getActualSize(runContext));
+        Admission admission = currentAdmission.get();
+        if (admission == null) {
+            return true;
+        }
+        try {
+            boolean covered = admission.extend(cost, runContext.getPriority() == RunPriority.HIGH ? Duration.ZERO : maxWait);
+            if (!covered) {
+                LOGGER.warn("Run on network {} goes on over the admission memory budget, its actual cost of {} MB is above the admitted {} MB",
+                        runContext.getNetworkUuid(), cost >> 20, admission.getAdmittedMemory() >> 20);
+            }
+            return covered;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while adjusting the admitted cost of the run on network " + runContext.getNetworkUuid(), e);
+        }
+    }
+
+    /**
+     * As a failed run, the result is removed
+     */
+    private void fail(DynamicSimulationResultContext resultContext, long cost) {
+        UUID resultUuid = resultContext.getResultUuid();
+        DynamicSimulationRunContext runContext = resultContext.getRunContext();
+        String errorMessage = String.format("Run not admitted after %d requeues, its estimated cost of %d MB exceeds the free memory of the workers",
+                maxRequeues, cost >> 20);
+        LOGGER.error("Run {} failed: {}", resultUuid, errorMessage);
+        resultService.delete(resultUuid);
+        notificationService.publishFail(resultUuid, runContext.getReceiver(), errorMessage, runContext.getUserId(), COMPUTATION_TYPE, Map.of());
+    }
+
+    private void requeue(Message<String> message, RunPriority priority, int requeueCount, long queuedAt) {
+        MessageBuilder<String> builder = MessageBuilder.withPayload(message.getPayload());
+        // broker specific headers are not copied, they are set again on the next delivery
+        message.getHeaders().forEach((name, value) -> {
+            if (!name.startsWith("amqp_") && !MessageHeaders.ID.equals(name) && !MessageHeaders.TIMESTAMP.equals(name)) {
+                builder.setHeader(name, value);
+            }
+        });
+        builder.setHeader(HEADER_REQUEUE_COUNT, requeueCount)
+                .setHeader(HEADER_QUEUED_AT, queuedAt);
+        // back to the lane of the run once the requeue delay expires in the retry queue
+        streamBridge.send(getRetryOutputBinding(priority), builder.build());
+    }
+
+    public static String getRetryOutputBinding(RunPriority priority) {
+        return priority == RunPriority.HIGH ? RUN_HIGH_PRIORITY_RETRY_OUTPUT_BINDING : RUN_RETRY_OUTPUT_BINDING;
+    }
+}
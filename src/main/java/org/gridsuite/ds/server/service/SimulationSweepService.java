@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service;
+
+import com.powsybl.dynamicsimulation.DynamicSimulationResult;
+import org.gridsuite.computation.service.NotificationService;
+import org.gridsuite.ds.server.dto.SweepRunInfos;
+import org.gridsuite.ds.server.service.SimulationAdmissionController.Admission;
+import org.gridsuite.ds.server.service.contexts.DynamicSimulationResultContext;
+import org.gridsuite.ds.server.service.contexts.DynamicSimulationRunContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.gridsuite.ds.server.service.DynamicSimulationService.COMPUTATION_TYPE;
+import static org.gridsuite.ds.server.service.contexts.DynamicSimulationResultContext.HEADER_BATCH_ID;
+
+/**
+ * Runner of the sweeps, i.e. of the batches whose runs are carried by a single message and run in parallel by one worker.
+ * <p>
+ * The run carrying the sweep follows the usual worker lifecycle, the other runs of the sweep are run alongside it
+ * by a pool bounded by the cores of the node, each one sharing the context prepared for the carrying run.
+ * As each run starts its own Dynawo process and holds its own copy of the network, each one is admitted against
+ * the memory budget of the node, see {@link SimulationAdmissionController}, with the cost of the carrying run.
+ * The result of each run is saved as soon as it is done, then notified as a single run, with the progress of the sweep.
+ * The carrying run waits for the other ones, its own result being notified last.
+ * <p>
+ * A run of the sweep is stopped alone by a cancel request for its result, or along with the whole sweep
+ * when the carrying run is stopped.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Service
+public class SimulationSweepService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SimulationSweepService.class);
+
+    public static final String HEADER_SWEEP_COMPLETED = "sweepCompleted";
+    public static final String HEADER_SWEEP_TOTAL = "sweepTotal";
+
+    /**
+     * Lifecycle of a run of a sweep, implemented by the worker on top of its own
+     */
+    public interface SweepRunner {
+
+        /**
+         * @return the context of the given run, derived from the context of the carrying run
+         */
+        DynamicSimulationResultContext prepare(SweepRunInfos sweepRun);
+
+        CompletableFuture<DynamicSimulationResult> run(DynamicSimulationResultContext resultContext);
+
+        void save(DynamicSimulationResultContext resultContext, DynamicSimulationResult result);
+
+        void clean(DynamicSimulationResultContext resultContext);
+    }
+
+    /**
+     * Run of a sweep in progress on this instance
+     */
+    private static final class SweepRun {
+
+        private final SweepRunInfos infos;
+
+        private final Sweep sweep;
+
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        private volatile CompletableFuture<DynamicSimulationResult> future;
+
+        private SweepRun(SweepRunInfos infos, Sweep sweep) {
+            this.infos = infos;
+            this.sweep = sweep;
+        }
+
+        private boolean isCancelled() {
+            return cancelled.get();
+        }
+
+        private void cancel() {
+            cancelled.set(true);
+            // a run starting its future checks the flag once the future is set
+            CompletableFuture<DynamicSimulationResult> runningFuture = future;
+            if (runningFuture != null) {
+                runningFuture.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Sweep in progress, cancelled along with the carrying run
+     */
+    public static final class Sweep {
+
+        private final List<SweepRun> runs = new ArrayList<>();
+
+        private CompletableFuture<Void> future;
+
+        // runs of the sweep in progress, guarded by this
+        private int runningCount;
+
+        /**
+         * @return a future completed once every run of the sweep is done, whatever its outcome
+         */
+        public CompletableFuture<Void> getFuture() {
+            return future;
+        }
+
+        public void cancel() {
+            runs.forEach(SweepRun::cancel);
+        }
+
+        private synchronized void started() {
+            runningCount++;
+        }
+
+        /**
+         * @return true if no other run of the sweep is in progress, the calling one being started
+         */
+        private synchronized boolean startAlone() {
+            if (runningCount > 0) {
+                return false;
+            }
+            runningCount++;
+            return true;
+        }
+
+        private synchronized void ended() {
+            runningCount--;
+        }
+    }
+
+    private final DynamicSimulationResultService resultService;
+    private final NotificationService notificationService;
+    private final SimulationAdmissionController admissionController;
+    private final SimulationCostEstimator costEstimator;
+
+    private final Duration admissionWait;
+
+    private final ExecutorService sweepExecutor;
+
+    // runs of the sweeps in progress on this instance by result uuid, to be cancelled alone
+    private final Map<UUID, SweepRun> sweepRuns = new ConcurrentHashMap<>();
+
+    public SimulationSweepService(DynamicSimulationResultService resultService,
+                                  NotificationService notificationService,
+                                  SimulationAdmissionController admissionController,
+                                  SimulationCostEstimator costEstimator,
+                                  @Value("${dynamic-simulation.worker.scheduler.max-wait:PT30S}") Duration admissionWait,
+                                  @Value("${dynamic-simulation.worker.sweep.parallelism:0}") int parallelism,
+                                  @Value("${dynamic-simulation.worker.cpus-per-run:2}") int cpusPerRun) {
+        this.resultService = resultService;
+        this.notificationService = notificationService;
+        this.admissionController = admissionController;
+        this.costEstimator = costEstimator;
+        this.admissionWait = admissionWait;
+        int sweepParallelism = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / Math.max(1, cpusPerRun));
+        this.sweepExecutor = Executors.newFixedThreadPool(sweepParallelism, new CustomizableThreadFactory("ds-sweep-"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweepExecutor.shutdownNow();
+    }
+
+    /**
+     * Start the other runs of the sweep carried by the given run context
+     */
+    public Sweep runSweep(DynamicSimulationRunContext runContext, SweepRunner sweepRunner) {
+        // the carrying run is counted in the total
+        int total = runContext.getSweepRuns().size() + 1;
+        AtomicInteger completed = new AtomicInteger();
+        // sizes of the carrying run are recorded once its network is loaded and its dynamic model generated
+        long cost = costEstimator.estimate(costEstimator.getExpectedSize(runContext));
+
+        Sweep sweep = new Sweep();
+        runContext.getSweepRuns().forEach(sweepRunInfos -> {
+            SweepRun sweepRun = new SweepRun(sweepRunInfos, sweep);
+            sweep.runs.add(sweepRun);
+            sweepRuns.put(sweepRunInfos.resultUuid(), sweepRun);
+        });
+        sweep.future = CompletableFuture.allOf(sweep.runs.stream()
+                .map(sweepRun -> CompletableFuture.runAsync(() -> {
+                    try {
+                        runSweepRun(runContext, sweepRun, sweepRunner, cost, completed, total);
+                    } finally {
+                        sweepRuns.remove(sweepRun.infos.resultUuid());
+                    }
+                }, sweepExecutor))
+                .toArray(CompletableFuture[]::new));
+        return sweep;
+    }
+
+    /**
+     * Cancel a run of a sweep in progress on this instance
+     *
+     * @return false if the given result is not a run of a sweep in progress on this instance
+     */
+    public boolean cancel(UUID resultUuid) {
+        SweepRun sweepRun = sweepRuns.get(resultUuid);
+        if (sweepRun == null) {
+            return false;
+        }
+        LOGGER.info("Cancel the run {} of the sweep", resultUuid);
+        sweepRun.cancel();
+        return true;
+    }
+
+    private void runSweepRun(DynamicSimulationRunContext runContext, SweepRun sweepRun, SweepRunner sweepRunner, long cost,
+                             AtomicInteger completed, int total) {
+        UUID resultUuid = sweepRun.infos.resultUuid();
+        Admission admission = null;
+        boolean started = false;
+        DynamicSimulationResultContext resultContext = null;
+        try {
+            if (sweepRun.isCancelled()) {
+                throw new CancellationException();
+            }
+            admission = admit(runContext, sweepRun, cost);
+            started = true;
+            if (sweepRun.isCancelled()) {
+                throw new CancellationException();
+            }
+            resultContext = sweepRunner.prepare(sweepRun.infos);
+            CompletableFuture<DynamicSimulationResult> future = sweepRunner.run(resultContext);
+            sweepRun.future = future;
+            // cancelled while starting
+            if (sweepRun.isCancelled()) {
+                future.cancel(true);
+            }
+            sweepRunner.save(resultContext, future.join());
+            notificationService.sendResultMessage(resultUuid, runContext.getReceiver(), runContext.getUserId(),
+                    getProgressHeaders(runContext, completed.incrementAndGet(), total));
+        } catch (CancellationException e) {
+            stop(runContext, resultUuid, completed);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stop(runContext, resultUuid, completed);
+        } catch (RuntimeException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            LOGGER.error("Run {} of the sweep failed", resultUuid, cause);
+            // as a failed single run, the result is removed
+            resultService.delete(resultUuid);
+            notificationService.publishFail(resultUuid, runContext.getReceiver(),
+                    Objects.requireNonNullElse(cause.getMessage(), cause.getClass().getSimpleName()), runContext.getUserId(),
+                    COMPUTATION_TYPE, getProgressHeaders(runContext, completed.incrementAndGet(), total));
+        } finally {
+            if (resultContext != null) {
+                sweepRunner.clean(resultContext);
+            }
+            if (started) {
+                sweepRun.sweep.ended();
+            }
+            if (admission != null) {
+                admission.close();
+            }
+        }
+    }
+
+    /**
+     * As a stopped single run, the result is removed
+     */
+    private void stop(DynamicSimulationRunContext runContext, UUID resultUuid, AtomicInteger completed) {
+        resultService.delete(resultUuid);
+        completed.incrementAndGet();
+        notificationService.publishStop(resultUuid, runContext.getReceiver(), COMPUTATION_TYPE);
+    }
+
+    /**
+     * Wait until the cost of a run of the sweep is admitted.
+     * The memory admitted to the carrying run is only released once the whole sweep is done, so that a run
+     * which is not admitted goes on anyway when no other run of the sweep is in progress, as in {@link Admission#extend},
+     * otherwise the carrying run and its sweep would wait for each other forever
+     *
+     * @return the admission to close once the run is done, null if the run goes on without admission
+     */
+    private Admission admit(DynamicSimulationRunContext runContext, SweepRun sweepRun, long cost) throws InterruptedException {
+        while (true) {
+            Admission admission = admissionController.tryAdmit(cost, runContext.getPriority(), admissionWait);
+            if (admission != null) {
+                sweepRun.sweep.started();
+                return admission;
+            }
+            if (sweepRun.isCancelled()) {
+                throw new CancellationException();
+            }
+            if (sweepRun.sweep.startAlone()) {
+                LOGGER.warn("Run {} of the sweep goes on over the admission memory budget, its cost of {} MB is not admitted",
+                        sweepRun.infos.resultUuid(), cost >> 20);
+                return null;
+            }
+        }
+    }
+
+    private static Map<String, Object> getProgressHeaders(DynamicSimulationRunContext runContext, int completed, int total) {
+        Map<String, Object> headers = new HashMap<>();
+        if (runContext.getBatchId() != null) {
+            headers.put(HEADER_BATCH_ID, runContext.getBatchId().toString());
+        }
+        headers.put(HEADER_SWEEP_COMPLETED, completed);
+        headers.put(HEADER_SWEEP_TOTAL, total);
+        return headers;
+    }
+}
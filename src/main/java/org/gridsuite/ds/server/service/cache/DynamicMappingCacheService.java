@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.powsybl.dynawo.parameters.ParametersSet;
+import com.powsybl.dynawo.xml.ParametersXml;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.NonNull;
+import org.apache.commons.lang3.StringUtils;
+import org.gridsuite.ds.server.dto.dynamicmapping.InputMapping;
+import org.gridsuite.ds.server.dto.dynamicmapping.ParameterFile;
+import org.gridsuite.ds.server.service.client.dynamicmapping.DynamicMappingClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Bounded and TTL-evicting cache in front of the {@link DynamicMappingClient}.
+ * <p>
+ * Mappings rarely change, so the mapping and the exported parameters file are kept per mapping id,
+ * the parameters file along with its parsed parameters sets. Entries can be invalidated by a message
+ * sent by the dynamic mapping server when a mapping is modified, see {@link #consumeMappingInvalidation()},
+ * otherwise a modified mapping is only taken into account once its entries expire.
+ * The cache is disabled by default, to be enabled only once the dynamic mapping server publishes these messages.
+ * <p>
+ * Parsed parameters sets are also kept by mapping id and content hash, independently of the entries above,
+ * so that a parameters file fetched again after an expiration or an invalidation is only parsed if its content changed.
+ * Parsed parameters sets are shared between concurrent runs, each run only modifies its own copies,
+ * see {@link org.gridsuite.ds.server.utils.Utils#copyParametersSet}.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Service
+public class DynamicMappingCacheService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DynamicMappingCacheService.class);
+
+    public static final String HEADER_MAPPING_ID = "mappingId";
+
+    private static final String MAPPING_CACHE_NAME = "ds.mapping";
+    private static final String PARAMETERS_CACHE_NAME = "ds.mapping.parameters";
+    private static final String PARSED_PARAMETERS_CACHE_NAME = "ds.mapping.parameters.parsed";
+
+    /**
+     * Parameters file exported from a mapping, and its parsed parameters sets
+     */
+    public record MappingParameters(ParameterFile parameterFile, List<ParametersSet> modelsParameters) {
+    }
+
+    private final DynamicMappingClient dynamicMappingClient;
+
+    private final boolean enabled;
+
+    private final Cache<UUID, InputMapping> mappingCache;
+
+    private final Cache<UUID, MappingParameters> parametersCache;
+
+    /**
+     * Key of parsed parameters sets, the content hash is a SHA-256 of the parameters file
+     */
+    private record ParsedParametersKey(UUID mappingId, String contentHash) {
+    }
+
+    private final Cache<ParsedParametersKey, List<ParametersSet>> parsedParametersCache;
+
+    public DynamicMappingCacheService(DynamicMappingClient dynamicMappingClient,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${dynamic-simulation.cache.mapping.enabled:false}") boolean enabled,
+                                      @Value("${dynamic-simulation.cache.mapping.ttl:PT10M}") Duration ttl,
+                                      @Value("${dynamic-simulation.cache.mapping.max-size:100}") long maxSize) {
+        this.dynamicMappingClient = dynamicMappingClient;
+        this.enabled = enabled;
+        this.mappingCache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.parametersCache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        // not expiring, entries of an unchanged content stay valid, only the least recently used ones are evicted
+        this.parsedParametersCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, mappingCache, MAPPING_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, parametersCache, PARAMETERS_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, parsedParametersCache, PARSED_PARAMETERS_CACHE_NAME);
+    }
+
+    public InputMapping getMapping(@NonNull UUID mappingId) {
+        if (!enabled) {
+            return dynamicMappingClient.getMapping(mappingId);
+        }
+        return mappingCache.get(mappingId, dynamicMappingClient::getMapping);
+    }
+
+    public ParameterFile exportParameters(@NonNull UUID mappingId) {
+        return getMappingParameters(mappingId).parameterFile();
+    }
+
+    /**
+     * @return the parsed parameters sets of the mapping, the returned list is unmodifiable and shared between callers
+     */
+    public List<ParametersSet> getModelsParameters(@NonNull UUID mappingId) {
+        return getMappingParameters(mappingId).modelsParameters();
+    }
+
+    private MappingParameters getMappingParameters(UUID mappingId) {
+        if (!enabled) {
+            return loadMappingParameters(mappingId);
+        }
+        return parametersCache.get(mappingId, this::loadMappingParameters);
+    }
+
+    private MappingParameters loadMappingParameters(UUID mappingId) {
+        ParameterFile parameterFile = dynamicMappingClient.exportParameters(mappingId);
+        String fileContent = Optional.ofNullable(parameterFile).map(ParameterFile::fileContent).orElse(null);
+        if (StringUtils.isEmpty(fileContent)) {
+            return new MappingParameters(parameterFile, List.of());
+        }
+
+        // hashing is far cheaper than parsing a large parameters file
+        byte[] fileBytes = fileContent.getBytes(StandardCharsets.UTF_8);
+        ParsedParametersKey parsedParametersKey = new ParsedParametersKey(mappingId, sha256(fileBytes));
+        List<ParametersSet> modelsParameters = parsedParametersCache.get(parsedParametersKey,
+                key -> List.copyOf(ParametersXml.load(new ByteArrayInputStream(fileBytes))));
+        return new MappingParameters(parameterFile, modelsParameters);
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required on every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public void invalidate(UUID mappingId) {
+        mappingCache.invalidate(mappingId);
+        parametersCache.invalidate(mappingId);
+    }
+
+    public void invalidateAll() {
+        mappingCache.invalidateAll();
+        parametersCache.invalidateAll();
+        parsedParametersCache.invalidateAll();
+    }
+
+    /**
+     * Consumer of the messages sent on the dynamic.mapping.updated destination by the dynamic mapping server,
+     * to be published by it once a mapping is modified or deleted: the payload is ignored, the mappingId header
+     * gives the modified mapping, all the mappings being invalidated without this header.
+     * Each instance consumes every message, the binding having no group.
+     * As long as no message is published, the mapping cache must stay disabled, a modified mapping being otherwise
+     * run with its cached entries until they expire.
+     */
+    @Bean
+    public Consumer<Message<String>> consumeMappingInvalidation() {
+        return message -> {
+            String mappingId = message.getHeaders().get(HEADER_MAPPING_ID, String.class);
+            if (mappingId != null) {
+                LOGGER.info("Invalidate cached mapping {}", mappingId);
+                invalidate(UUID.fromString(mappingId));
+            } else {
+                LOGGER.info("Invalidate all cached mappings");
+                invalidateAll();
+            }
+        };
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.apache.commons.collections4.CollectionUtils;
+import org.gridsuite.ds.server.service.client.FilterClient;
+import org.gridsuite.filter.AbstractFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memoizing layers around {@link FilterClient#getFilters(List)}, used while evaluating the rules of a mapping.
+ * <ul>
+ *     <li>a request scope, created for each evaluation of a mapping, which keeps all filters fetched during the evaluation</li>
+ *     <li>an optional process-wide LRU, filters are then reused between evaluations until they expire</li>
+ * </ul>
+ * Filters missing from both layers are fetched in a single call.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Service
+public class FilterCacheService {
+
+    private static final String CACHE_NAME = "ds.filter";
+    public static final String LOOKUP_METER_NAME = "ds.filter.lookups";
+    private static final String RESULT_TAG_NAME = "result";
+
+    private final FilterClient filterClient;
+
+    // null when the process-wide layer is disabled
+    private final Cache<UUID, AbstractFilter> globalCache;
+
+    private final Counter requestHitCounter;
+    private final Counter globalHitCounter;
+    private final Counter missCounter;
+
+    public FilterCacheService(FilterClient filterClient,
+                              MeterRegistry meterRegistry,
+                              @Value("${dynamic-simulation.cache.filter.enabled:false}") boolean globalCacheEnabled,
+                              @Value("${dynamic-simulation.cache.filter.ttl:PT1M}") Duration ttl,
+                              @Value("${dynamic-simulation.cache.filter.max-size:1000}") long maxSize) {
+        this.filterClient = filterClient;
+        if (globalCacheEnabled) {
+            globalCache = Caffeine.newBuilder()
+                    .expireAfterWrite(ttl)
+                    .maximumSize(maxSize)
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, globalCache, CACHE_NAME);
+        } else {
+            globalCache = null;
+        }
+        requestHitCounter = Counter.builder(LOOKUP_METER_NAME).tag(RESULT_TAG_NAME, "request-hit").register(meterRegistry);
+        globalHitCounter = Counter.builder(LOOKUP_METER_NAME).tag(RESULT_TAG_NAME, "global-hit").register(meterRegistry);
+        missCounter = Counter.builder(LOOKUP_METER_NAME).tag(RESULT_TAG_NAME, "miss").register(meterRegistry);
+    }
+
+    /**
+     * @return a new request scope, to be used for the evaluation of one mapping
+     */
+    public RequestScope createRequestScope() {
+        return new RequestScope();
+    }
+
+    /**
+     * Filters fetched during one request, safe to be used by several threads
+     */
+    public final class RequestScope {
+
+        private final Map<UUID, AbstractFilter> filters = new ConcurrentHashMap<>();
+
+        private RequestScope() {
+        }
+
+        /**
+         * @return the found filters in the order of the given uuids, unknown filters are ignored
+         */
+        public List<AbstractFilter> getFilters(List<UUID> filterUuids) {
+            if (CollectionUtils.isEmpty(filterUuids)) {
+                return Collections.emptyList();
+            }
+
+            Set<UUID> missingUuids = new LinkedHashSet<>();
+            for (UUID filterUuid : filterUuids) {
+                if (filters.containsKey(filterUuid)) {
+                    requestHitCounter.increment();
+                } else {
+                    AbstractFilter filter = globalCache != null ? globalCache.getIfPresent(filterUuid) : null;
+                    if (filter != null) {
+                        globalHitCounter.increment();
+                        filters.put(filterUuid, filter);
+                    } else {
+                        missingUuids.add(filterUuid);
+                    }
+                }
+            }
+
+            // fetch all missing filters at once
+            if (!missingUuids.isEmpty()) {
+                missCounter.increment(missingUuids.size());
+                for (AbstractFilter filter : filterClient.getFilters(new ArrayList<>(missingUuids))) {
+                    filters.put(filter.getId(), filter);
+                    if (globalCache != null) {
+                        globalCache.put(filter.getId(), filter);
+                    }
+                }
+            }
+
+            return filterUuids.stream().map(filters::get).filter(Objects::nonNull).toList();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.powsybl.iidm.network.Network;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Sizes of the networks and of their dynamic models, recorded by the runs of this instance,
+ * so that the cost of a next run on the same network can be estimated before loading it.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Service
+public class NetworkSizeRegistry {
+
+    private static final String NETWORK_SIZE_CACHE_NAME = "ds.network.size";
+
+    private record DynamicModelKey(UUID networkUuid, UUID mappingId) {
+    }
+
+    private final Cache<UUID, Long> equipmentCountCache;
+
+    private final Cache<DynamicModelKey, Integer> dynamicModelCountCache;
+
+    public NetworkSizeRegistry(MeterRegistry meterRegistry,
+                               @Value("${dynamic-simulation.cache.network-size.ttl:P1D}") Duration ttl,
+                               @Value("${dynamic-simulation.cache.network-size.max-size:1000}") long maxSize) {
+        this.equipmentCountCache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.dynamicModelCountCache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, equipmentCountCache, NETWORK_SIZE_CACHE_NAME);
+    }
+
+    public static long getEquipmentCount(Network network) {
+        return (long) network.getVoltageLevelCount()
+                + network.getGeneratorCount()
+                + network.getLoadCount()
+                + network.getLineCount()
+                + network.getTwoWindingsTransformerCount()
+                + network.getThreeWindingsTransformerCount()
+                + network.getShuntCompensatorCount()
+                + network.getStaticVarCompensatorCount()
+                + network.getHvdcLineCount();
+    }
+
+    public OptionalLong getEquipmentCount(@NonNull UUID networkUuid) {
+        Long equipmentCount = equipmentCountCache.getIfPresent(networkUuid);
+        return equipmentCount != null ? OptionalLong.of(equipmentCount) : OptionalLong.empty();
+    }
+
+    public OptionalInt getDynamicModelCount(@NonNull UUID networkUuid, @NonNull UUID mappingId) {
+        Integer dynamicModelCount = dynamicModelCountCache.getIfPresent(new DynamicModelKey(networkUuid, mappingId));
+        return dynamicModelCount != null ? OptionalInt.of(dynamicModelCount) : OptionalInt.empty();
+    }
+
+    public void recordEquipmentCount(@NonNull UUID networkUuid, long equipmentCount) {
+        equipmentCountCache.put(networkUuid, equipmentCount);
+    }
+
+    public void recordDynamicModelCount(@NonNull UUID networkUuid, @NonNull UUID mappingId, int dynamicModelCount) {
+        dynamicModelCountCache.put(new DynamicModelKey(networkUuid, mappingId), dynamicModelCount);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.powsybl.commons.io.TreeDataFormat;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.iidm.serde.ExportOptions;
+import com.powsybl.iidm.serde.ImportOptions;
+import com.powsybl.iidm.serde.NetworkSerDe;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Worker-local cache of network snapshots, so that consecutive runs on the same network variant, e.g. of a parametric study,
+ * do not load the network again from the network store.
+ * <p>
+ * A snapshot is the binary serialization of the variant, keyed by network, variant and a stamp of the network modifications
+ * given by the caller. A run without stamp is not cached, as a modified variant could not be told apart.
+ * The cache is bounded by the total size of the snapshots, the least recently used ones being evicted first.
+ * <p>
+ * Writing a snapshot requires a full load of the network, which is wasted for a variant run once, and far slower than
+ * a lazy load for a huge network. A variant is thus only snapshotted on its second request, the first run loading
+ * the network as without cache.
+ * <p>
+ * Snapshots are read-only: each run gets its own in-memory copy, the variant of the run being cloned from the snapshot,
+ * so that concurrent runs never share a network.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Service
+public class NetworkSnapshotCacheService {
+
+    private static final String NETWORK_SNAPSHOT_CACHE_NAME = "ds.network.snapshot";
+
+    private static final long MAX_REQUESTED_VARIANTS = 1000;
+
+    private record NetworkSnapshotKey(UUID networkUuid, String variantId, String stamp) {
+    }
+
+    private final boolean enabled;
+
+    private final Cache<NetworkSnapshotKey, byte[]> snapshotCache;
+
+    // variants requested once, not snapshotted yet
+    private final Cache<NetworkSnapshotKey, Boolean> requestedVariants;
+
+    public NetworkSnapshotCacheService(MeterRegistry meterRegistry,
+                                       @Value("${dynamic-simulation.cache.network.enabled:false}") boolean enabled,
+                                       @Value("${dynamic-simulation.cache.network.ttl:PT30M}") Duration ttl,
+                                       @Value("${dynamic-simulation.cache.network.max-size:2GB}") DataSize maxSize) {
+        this.enabled = enabled;
+        this.snapshotCache = Caffeine.newBuilder()
+                .expireAfterAccess(ttl)
+                .maximumWeight(maxSize.toBytes())
+                .weigher((NetworkSnapshotKey key, byte[] snapshot) -> snapshot.length)
+                .recordStats()
+                .build();
+        this.requestedVariants = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(MAX_REQUESTED_VARIANTS)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshotCache, NETWORK_SNAPSHOT_CACHE_NAME);
+    }
+
+    /**
+     * @return a copy of the cached snapshot of the given variant if any, otherwise the network given by the loader,
+     * whose working variant is snapshotted for the next runs if the variant is requested for the second time
+     */
+    public Network getNetwork(@NonNull UUID networkUuid, @Nullable String variantId, @Nullable String stamp, Supplier<Network> loader) {
+        if (!enabled || stamp == null) {
+            return loader.get();
+        }
+        String variant = variantId != null ? variantId : VariantManagerConstants.INITIAL_VARIANT_ID;
+        NetworkSnapshotKey snapshotKey = new NetworkSnapshotKey(networkUuid, variant, stamp);
+
+        byte[] cachedSnapshot = snapshotCache.getIfPresent(snapshotKey);
+        if (cachedSnapshot != null) {
+            return readSnapshot(cachedSnapshot, variant);
+        }
+        // first request, loaded with its own preloading strategy without being snapshotted
+        if (requestedVariants.asMap().putIfAbsent(snapshotKey, Boolean.TRUE) == null) {
+            return loader.get();
+        }
+
+        // concurrent runs on the same variant wait for the load of the snapshotted network then read its snapshot
+        AtomicReference<Network> loadedNetwork = new AtomicReference<>();
+        byte[] snapshot = snapshotCache.get(snapshotKey, key -> {
+            Network network = loader.get();
+            loadedNetwork.set(network);
+            return writeSnapshot(network);
+        });
+        return loadedNetwork.get() != null ? loadedNetwork.get() : readSnapshot(snapshot, variant);
+    }
+
+    /**
+     * @return the binary snapshot of the working variant of the given network
+     */
+    public static byte[] writeSnapshot(Network network) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        // only the working variant is written
+        NetworkSerDe.write(network, new ExportOptions().setFormat(TreeDataFormat.BIN), os);
+        return os.toByteArray();
+    }
+
+    /**
+     * @return a new in-memory network read from the given snapshot, whose working variant is the given one
+     */
+    public static Network readSnapshot(byte[] snapshot, String variantId) {
+        Network network = NetworkSerDe.read(new ByteArrayInputStream(snapshot), new ImportOptions().setFormat(TreeDataFormat.BIN), null);
+        // the snapshot is read as the initial variant, cloned to the variant of the run
+        if (!VariantManagerConstants.INITIAL_VARIANT_ID.equals(variantId)) {
+            network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, variantId);
+            network.getVariantManager().setWorkingVariant(variantId);
+        }
+        return network;
+    }
+
+    public void invalidateAll() {
+        snapshotCache.invalidateAll();
+        requestedVariants.invalidateAll();
+    }
+}
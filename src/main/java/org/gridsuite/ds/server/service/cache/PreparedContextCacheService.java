@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.powsybl.dynamicsimulation.OutputVariablesSupplier;
+import com.powsybl.dynawo.parameters.ParametersSet;
+import com.powsybl.dynawo.suppliers.dynamicmodels.DynamicModelConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.NonNull;
+import org.gridsuite.ds.server.service.contexts.DynamicSimulationRunContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Worker-local cache of the contexts prepared for the runs of a batch, see the batch run API.
+ * <p>
+ * Runs of a batch target the same network variant with the same mapping and parameters, and differ only by their events.
+ * The part of the preparation which does not depend on the events, i.e. the parsed models parameters, the dynamic model
+ * evaluated from the mapping and the output variables, is computed by the first run of the batch on this instance,
+ * the next ones only build their event model. The key also holds a hash of the parameters and the network stamp if any,
+ * so that runs of a batch never share a context prepared from other parameters or from another state of the variant.
+ * <p>
+ * Prepared contexts are shared between concurrent runs: they must be considered read-only. The simulation parameters
+ * are not part of it, as they are enriched by each run with its own working directory and its own copies
+ * of the models parameters.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Service
+public class PreparedContextCacheService {
+
+    private static final String PREPARED_CONTEXT_CACHE_NAME = "ds.prepared.context";
+
+    /**
+     * Part of the run preparation shared by the runs of a batch
+     */
+    public record PreparedContext(List<ParametersSet> modelsParameters, List<DynamicModelConfig> dynamicModel,
+                                  OutputVariablesSupplier outputVariablesSupplier) {
+    }
+
+    /**
+     * Key of a prepared context, the parameters hash is a SHA-256 of the serialized parameters,
+     * the network stamp is null if not given by the caller
+     */
+    private record PreparedContextKey(UUID batchId, UUID networkUuid, String variantId, String networkStamp, UUID mappingId, String parametersHash) {
+    }
+
+    private final ObjectMapper objectMapper;
+
+    private final boolean enabled;
+
+    private final AsyncCache<PreparedContextKey, PreparedContext> preparedContextCache;
+
+    public PreparedContextCacheService(ObjectMapper objectMapper,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${dynamic-simulation.cache.prepared-context.enabled:true}") boolean enabled,
+                                       @Value("${dynamic-simulation.cache.prepared-context.ttl:PT10M}") Duration ttl,
+                                       @Value("${dynamic-simulation.cache.prepared-context.max-size:10}") long maxSize) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        // a batch is consumed within a short time, its context expires once its last run is prepared
+        this.preparedContextCache = Caffeine.newBuilder()
+                .expireAfterAccess(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, preparedContextCache.synchronous(), PREPARED_CONTEXT_CACHE_NAME);
+    }
+
+    /**
+     * @return the context prepared by a previous run of the same batch if any, otherwise the context given by the loader,
+     * which is kept for the next runs of the batch. A run out of a batch is always prepared by the loader
+     */
+    public PreparedContext getPreparedContext(@NonNull DynamicSimulationRunContext runContext, Supplier<PreparedContext> loader) {
+        if (!enabled || runContext.getBatchId() == null) {
+            return loader.get();
+        }
+        PreparedContextKey key = new PreparedContextKey(runContext.getBatchId(), runContext.getNetworkUuid(), runContext.getVariantId(),
+                runContext.getNetworkStamp(), runContext.getMappingId(), hashParameters(runContext));
+        // the first run of the batch prepares the context out of the cache computation, concurrent runs of the batch
+        // wait for its preparation without locking the cache, a failed preparation being removed from the cache
+        CompletableFuture<PreparedContext> preparation = new CompletableFuture<>();
+        CompletableFuture<PreparedContext> preparedContext = preparedContextCache.get(key, (k, executor) -> preparation);
+        if (preparedContext == preparation) {
+            try {
+                preparation.complete(loader.get());
+            } catch (RuntimeException | Error e) {
+                preparation.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return preparedContext.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String hashParameters(DynamicSimulationRunContext runContext) {
+        try {
+            byte[] parameters = objectMapper.writeValueAsBytes(runContext.getParameters());
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(parameters));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required on every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public void invalidateAll() {
+        preparedContextCache.synchronous().invalidateAll();
+    }
+}
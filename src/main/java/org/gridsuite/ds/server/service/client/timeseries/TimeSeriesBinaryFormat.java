@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service.client.timeseries;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.timeseries.*;
+import org.springframework.http.MediaType;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact columnar binary encoding of a list of time series, used as an alternative to the JSON transport.
+ * <p>
+ * Layout, all header integers are big-endian:
+ * <pre>
+ * magic "GSTS" | version (byte) | series count (int)
+ * per series:
+ *   data type (byte: 0 = double, 1 = string) | name (utf) | tags count (int) | tags (utf key, utf value)...
+ *   point count (int) | time index as zigzag var-long deltas, first one relative to 0
+ *   double values: point count * 8 bytes, little-endian IEEE 754
+ *   string values: per point, length (int, -1 for null) then UTF-8 bytes
+ * </pre>
+ * Compression is not part of the format, it is applied on top of it with the HTTP content encoding.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public final class TimeSeriesBinaryFormat {
+
+    public static final String CONTENT_TYPE = "application/vnd.gridsuite.timeseries+binary";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(CONTENT_TYPE);
+
+    private static final byte[] MAGIC = {'G', 'S', 'T', 'S'};
+    private static final byte VERSION = 1;
+    private static final byte DOUBLE_TYPE = 0;
+    private static final byte STRING_TYPE = 1;
+
+    // number of doubles converted at once, bounds the temporary buffer whatever the size of the series
+    private static final int DOUBLE_BLOCK_SIZE = 1024;
+
+    private TimeSeriesBinaryFormat() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    public static void write(OutputStream outputStream, List<TimeSeries<?, ?>> timeSeriesList) throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt(timeSeriesList.size());
+        ByteBuffer doubleBlock = ByteBuffer.allocate(DOUBLE_BLOCK_SIZE * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (TimeSeries<?, ?> timeSeries : timeSeriesList) {
+            writeTimeSeries(out, timeSeries, doubleBlock);
+        }
+        out.flush();
+    }
+
+    private static void writeTimeSeries(DataOutputStream out, TimeSeries<?, ?> timeSeries, ByteBuffer doubleBlock) throws IOException {
+        TimeSeriesMetadata metadata = timeSeries.getMetadata();
+        boolean isDouble = timeSeries instanceof DoubleTimeSeries;
+        if (!isDouble && !(timeSeries instanceof StringTimeSeries)) {
+            throw new PowsyblException("Unsupported time series type: " + timeSeries.getClass().getSimpleName());
+        }
+        out.writeByte(isDouble ? DOUBLE_TYPE : STRING_TYPE);
+        out.writeUTF(metadata.getName());
+        out.writeInt(metadata.getTags().size());
+        for (Map.Entry<String, String> tag : metadata.getTags().entrySet()) {
+            out.writeUTF(tag.getKey());
+            out.writeUTF(tag.getValue());
+        }
+
+        // time index
+        TimeSeriesIndex index = metadata.getIndex();
+        int pointCount = index.getPointCount();
+        out.writeInt(pointCount);
+        long previousTime = 0;
+        for (int i = 0; i < pointCount; i++) {
+            long time = index.getTimeAt(i);
+            writeVarLong(out, time - previousTime);
+            previousTime = time;
+        }
+
+        // values
+        if (isDouble) {
+            writeDoubles(out, ((DoubleTimeSeries) timeSeries).toArray(), doubleBlock);
+        } else {
+            writeStrings(out, ((StringTimeSeries) timeSeries).toArray());
+        }
+    }
+
+    private static void writeDoubles(DataOutputStream out, double[] values, ByteBuffer doubleBlock) throws IOException {
+        for (int offset = 0; offset < values.length; offset += DOUBLE_BLOCK_SIZE) {
+            int length = Math.min(DOUBLE_BLOCK_SIZE, values.length - offset);
+            doubleBlock.clear();
+            doubleBlock.asDoubleBuffer().put(values, offset, length);
+            out.write(doubleBlock.array(), 0, length * Double.BYTES);
+        }
+    }
+
+    private static void writeStrings(DataOutputStream out, String[] values) throws IOException {
+        for (String value : values) {
+            if (value == null) {
+                out.writeInt(-1);
+            } else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+    }
+
+    public static List<TimeSeries<?, ?>> read(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        byte[] magic = new byte[MAGIC.length];
+        in.readFully(magic);
+        byte version = in.readByte();
+        if (!Arrays.equals(magic, MAGIC) || version != VERSION) {
+            throw new PowsyblException("Not a supported binary time series content");
+        }
+        int count = in.readInt();
+        List<TimeSeries<?, ?>> timeSeriesList = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            timeSeriesList.add(readTimeSeries(in));
+        }
+        return timeSeriesList;
+    }
+
+    private static TimeSeries<?, ?> readTimeSeries(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        String name = in.readUTF();
+        int tagCount = in.readInt();
+        Map<String, String> tags = new LinkedHashMap<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.put(in.readUTF(), in.readUTF());
+        }
+
+        int pointCount = in.readInt();
+        long[] times = new long[pointCount];
+        long previousTime = 0;
+        for (int i = 0; i < pointCount; i++) {
+            previousTime += readVarLong(in);
+            times[i] = previousTime;
+        }
+        TimeSeriesIndex index = new IrregularTimeSeriesIndex(times);
+
+        if (type == DOUBLE_TYPE) {
+            byte[] bytes = new byte[pointCount * Double.BYTES];
+            in.readFully(bytes);
+            double[] values = new double[pointCount];
+            ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(values);
+            TimeSeriesMetadata metadata = new TimeSeriesMetadata(name, TimeSeriesDataType.DOUBLE, tags, index);
+            return new StoredDoubleTimeSeries(metadata, new UncompressedDoubleDataChunk(0, values));
+        } else if (type == STRING_TYPE) {
+            String[] values = new String[pointCount];
+            for (int i = 0; i < pointCount; i++) {
+                int length = in.readInt();
+                if (length >= 0) {
+                    byte[] bytes = new byte[length];
+                    in.readFully(bytes);
+                    values[i] = new String(bytes, StandardCharsets.UTF_8);
+                }
+            }
+            TimeSeriesMetadata metadata = new TimeSeriesMetadata(name, TimeSeriesDataType.STRING, tags, index);
+            return new StringTimeSeries(metadata, new UncompressedStringDataChunk(0, values));
+        }
+        throw new PowsyblException("Unsupported binary time series type: " + type);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        // zigzag encoding to keep small negative deltas short
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.writeByte((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.writeByte((int) zigzag);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long zigzag = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift >= Long.SIZE) {
+                throw new PowsyblException("Malformed var-long in binary time series content");
+            }
+            b = in.readByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+}
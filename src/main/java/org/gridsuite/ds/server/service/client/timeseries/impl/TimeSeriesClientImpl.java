@@ -6,23 +6,36 @@
  */
 package org.gridsuite.ds.server.service.client.timeseries.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.powsybl.timeseries.TimeSeries;
 import org.gridsuite.ds.server.dto.timeseries.TimeSeriesGroupInfos;
 import org.gridsuite.ds.server.service.client.AbstractRestClient;
+import org.gridsuite.ds.server.service.client.timeseries.TimeSeriesBinaryFormat;
 import org.gridsuite.ds.server.service.client.timeseries.TimeSeriesClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.http.StreamingHttpOutputMessage;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpMessageConverterExtractor;
+import org.springframework.web.client.RequestCallback;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
 
 import static org.gridsuite.ds.server.service.client.utils.UrlUtils.buildEndPointUrl;
 
@@ -32,10 +45,34 @@ import static org.gridsuite.ds.server.service.client.utils.UrlUtils.buildEndPoin
 @Service
 public class TimeSeriesClientImpl extends AbstractRestClient implements TimeSeriesClient {
 
+    public static final int DEFAULT_UPLOAD_BATCH_SIZE = 100;
+
+    private final boolean streamingUpload;
+
+    private final int uploadBatchSize;
+
+    private final boolean binaryUpload;
+
+    private final boolean compressedUpload;
+
+    // set to false once the time-series server has refused the binary content type, JSON is then used
+    private final AtomicBoolean binarySupported = new AtomicBoolean(true);
+
     @Autowired
     public TimeSeriesClientImpl(@Value("${gridsuite.services.timeseries-server.base-uri:http://timeseries-server/}") String baseUri,
-                                RestTemplate restTemplate, ObjectMapper objectMapper) {
+                                RestTemplate restTemplate, ObjectMapper objectMapper,
+                                @Value("${gridsuite.services.timeseries-server.upload.streaming:true}") boolean streamingUpload,
+                                @Value("${gridsuite.services.timeseries-server.upload.batch-size:" + DEFAULT_UPLOAD_BATCH_SIZE + "}") int uploadBatchSize,
+                                @Value("${gridsuite.services.timeseries-server.upload.binary:false}") boolean binaryUpload,
+                                @Value("${gridsuite.services.timeseries-server.upload.compression:false}") boolean compressedUpload) {
         super(baseUri, restTemplate, objectMapper);
+        if (uploadBatchSize <= 0) {
+            throw new IllegalArgumentException("Time series upload batch size must be strictly positive: " + uploadBatchSize);
+        }
+        this.streamingUpload = streamingUpload;
+        this.uploadBatchSize = uploadBatchSize;
+        this.binaryUpload = binaryUpload;
+        this.compressedUpload = compressedUpload;
     }
 
     @Override
@@ -49,6 +86,20 @@ public class TimeSeriesClientImpl extends AbstractRestClient implements TimeSeri
         UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.fromUriString(endPointUrl);
         var uriComponents = uriComponentsBuilder.build();
 
+        if (binaryUpload && binarySupported.get()) {
+            try {
+                return sendBinaryTimeSeries(uriComponents.toUriString(), timeSeriesList);
+            } catch (HttpClientErrorException.UnsupportedMediaType e) {
+                // the time-series server does not know the binary content type, fall back to JSON from now on
+                binarySupported.set(false);
+                logger.warn("Binary time series upload not supported by the time-series server, fall back to JSON");
+            }
+        }
+
+        if (streamingUpload) {
+            return streamTimeSeries(uriComponents.toUriString(), timeSeriesList);
+        }
+
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
 
@@ -58,6 +109,79 @@ public class TimeSeriesClientImpl extends AbstractRestClient implements TimeSeri
         return getRestTemplate().postForObject(uriComponents.toUriString(), httpEntity, TimeSeriesGroupInfos.class);
     }
 
+    /**
+     * Serialize the time series directly into the request body instead of building the whole payload in memory.
+     * The generator is flushed every {@code uploadBatchSize} series, so only one batch is buffered at a time
+     */
+    private TimeSeriesGroupInfos streamTimeSeries(String url, List<TimeSeries<?, ?>> timeSeriesList) {
+        RequestCallback requestCallback = request -> {
+            request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+            if (request instanceof StreamingHttpOutputMessage streamingRequest) {
+                streamingRequest.setBody(outputStream -> writeTimeSeries(outputStream, timeSeriesList));
+            } else {
+                writeTimeSeries(request.getBody(), timeSeriesList);
+            }
+        };
+
+        HttpMessageConverterExtractor<TimeSeriesGroupInfos> responseExtractor =
+                new HttpMessageConverterExtractor<>(TimeSeriesGroupInfos.class, getRestTemplate().getMessageConverters());
+
+        // call time-series Rest API
+        return getRestTemplate().execute(url, HttpMethod.POST, requestCallback, responseExtractor);
+    }
+
+    /**
+     * Send the time series with the columnar {@link TimeSeriesBinaryFormat}, optionally gzip compressed
+     */
+    private TimeSeriesGroupInfos sendBinaryTimeSeries(String url, List<TimeSeries<?, ?>> timeSeriesList) {
+        RequestCallback requestCallback = request -> {
+            request.getHeaders().setContentType(TimeSeriesBinaryFormat.MEDIA_TYPE);
+            request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+            if (compressedUpload) {
+                request.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            if (request instanceof StreamingHttpOutputMessage streamingRequest) {
+                streamingRequest.setBody(outputStream -> writeBinaryTimeSeries(outputStream, timeSeriesList));
+            } else {
+                writeBinaryTimeSeries(request.getBody(), timeSeriesList);
+            }
+        };
+
+        HttpMessageConverterExtractor<TimeSeriesGroupInfos> responseExtractor =
+                new HttpMessageConverterExtractor<>(TimeSeriesGroupInfos.class, getRestTemplate().getMessageConverters());
+
+        // call time-series Rest API
+        return getRestTemplate().execute(url, HttpMethod.POST, requestCallback, responseExtractor);
+    }
+
+    private void writeBinaryTimeSeries(OutputStream outputStream, List<TimeSeries<?, ?>> timeSeriesList) throws IOException {
+        if (compressedUpload) {
+            GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream);
+            TimeSeriesBinaryFormat.write(gzipOutputStream, timeSeriesList);
+            // finish without closing the underlying request body
+            gzipOutputStream.finish();
+        } else {
+            TimeSeriesBinaryFormat.write(outputStream, timeSeriesList);
+        }
+    }
+
+    private void writeTimeSeries(OutputStream outputStream, List<TimeSeries<?, ?>> timeSeriesList) throws IOException {
+        ObjectWriter writer = getObjectMapper().writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = getObjectMapper().getFactory().createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.writeStartArray();
+            int count = 0;
+            for (TimeSeries<?, ?> timeSeries : timeSeriesList) {
+                writer.writeValue(generator, timeSeries);
+                if (++count % uploadBatchSize == 0) {
+                    generator.flush();
+                }
+            }
+            generator.writeEndArray();
+        }
+    }
+
     @Override
     public void deleteTimeSeriesGroup(UUID groupUuid) {
         if (groupUuid == null) {
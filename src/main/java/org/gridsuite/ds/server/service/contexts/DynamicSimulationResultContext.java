@@ -8,15 +8,21 @@ package org.gridsuite.ds.server.service.contexts;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.gridsuite.computation.dto.ReportInfos;
 import org.gridsuite.computation.service.AbstractResultContext;
 import org.gridsuite.ds.server.dto.DynamicSimulationParametersInfos;
+import org.gridsuite.ds.server.dto.RunPriority;
+import org.gridsuite.ds.server.dto.SweepRunInfos;
 import org.gridsuite.ds.server.dto.event.EventInfos;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
 
 import java.io.UncheckedIOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -32,6 +38,12 @@ public class DynamicSimulationResultContext extends AbstractResultContext<Dynami
 
     public static final String HEADER_MAPPING_ID = "mappingId";
     public static final String HEADER_EVENTS = "events";
+    public static final String HEADER_PRIORITY = "priority";
+    public static final String HEADER_NETWORK_STAMP = "networkStamp";
+    public static final String HEADER_BATCH_ID = "batchId";
+
+    // the other runs of a sweep are in the payload, as the headers of a message must fit in a single frame of the broker
+    public static final String PAYLOAD_SWEEP_RUNS = "sweepRuns";
 
     public DynamicSimulationResultContext(UUID resultUuid, DynamicSimulationRunContext runContext) {
         super(resultUuid, runContext);
@@ -40,10 +52,16 @@ public class DynamicSimulationResultContext extends AbstractResultContext<Dynami
     public static DynamicSimulationResultContext fromMessage(Message<String> message, ObjectMapper objectMapper) {
         Objects.requireNonNull(message);
 
-        // decode the parameters values
+        // decode the parameters values, along with the other runs of a sweep if any
         DynamicSimulationParametersInfos parametersInfos;
+        List<SweepRunInfos> sweepRuns = List.of();
         try {
-            parametersInfos = objectMapper.readValue(message.getPayload(), DynamicSimulationParametersInfos.class);
+            JsonNode payload = objectMapper.readTree(message.getPayload());
+            JsonNode sweepRunsNode = payload instanceof ObjectNode objectNode ? objectNode.remove(PAYLOAD_SWEEP_RUNS) : null;
+            if (sweepRunsNode != null) {
+                sweepRuns = objectMapper.convertValue(sweepRunsNode, new TypeReference<>() { });
+            }
+            parametersInfos = objectMapper.treeToValue(payload, DynamicSimulationParametersInfos.class);
         } catch (JsonProcessingException e) {
             throw new UncheckedIOException(e);
         }
@@ -83,6 +101,13 @@ public class DynamicSimulationResultContext extends AbstractResultContext<Dynami
             throw new UncheckedIOException(e);
         }
         runContext.setEvents(events);
+        Object priority = headers.get(HEADER_PRIORITY);
+        runContext.setPriority(priority != null ? RunPriority.valueOf(priority.toString()) : RunPriority.NORMAL);
+        Object networkStamp = headers.get(HEADER_NETWORK_STAMP);
+        runContext.setNetworkStamp(networkStamp != null ? networkStamp.toString() : null);
+        Object batchId = headers.get(HEADER_BATCH_ID);
+        runContext.setBatchId(batchId != null ? UUID.fromString(batchId.toString()) : null);
+        runContext.setSweepRuns(sweepRuns);
 
         return new DynamicSimulationResultContext(resultUuid, runContext);
     }
@@ -95,7 +120,34 @@ public class DynamicSimulationResultContext extends AbstractResultContext<Dynami
         } catch (JsonProcessingException e) {
             throw new UncheckedIOException(e);
         }
-        return Map.of(HEADER_MAPPING_ID, getRunContext().getMappingId().toString(),
-                HEADER_EVENTS, eventsJson);
+        Map<String, String> headers = new HashMap<>(Map.of(HEADER_MAPPING_ID, getRunContext().getMappingId().toString(),
+                HEADER_EVENTS, eventsJson,
+                HEADER_PRIORITY, getRunContext().getPriority().name()));
+        if (getRunContext().getNetworkStamp() != null) {
+            headers.put(HEADER_NETWORK_STAMP, getRunContext().getNetworkStamp());
+        }
+        if (getRunContext().getBatchId() != null) {
+            headers.put(HEADER_BATCH_ID, getRunContext().getBatchId().toString());
+        }
+        return headers;
+    }
+
+    /**
+     * @return the run message, the other runs of a sweep being added to the payload
+     */
+    public Message<String> toRunMessage(ObjectMapper objectMapper) {
+        Message<String> message = toMessage(objectMapper);
+        if (getRunContext().getSweepRuns().isEmpty()) {
+            return message;
+        }
+        try {
+            ObjectNode payload = (ObjectNode) objectMapper.readTree(message.getPayload());
+            payload.set(PAYLOAD_SWEEP_RUNS, objectMapper.valueToTree(getRunContext().getSweepRuns()));
+            return MessageBuilder.withPayload(objectMapper.writeValueAsString(payload))
+                    .copyHeaders(message.getHeaders())
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -7,6 +7,8 @@
 package org.gridsuite.ds.server.service.contexts;
 
 import com.powsybl.dynamicsimulation.DynamicSimulationParameters;
+import com.powsybl.dynamicsimulation.OutputVariablesSupplier;
+import com.powsybl.dynawo.parameters.ParametersSet;
 import com.powsybl.dynawo.suppliers.dynamicmodels.DynamicModelConfig;
 import com.powsybl.dynawo.suppliers.events.EventModelConfig;
 import lombok.Builder;
@@ -15,6 +17,8 @@ import lombok.Setter;
 import org.gridsuite.computation.dto.ReportInfos;
 import org.gridsuite.computation.service.AbstractComputationRunContext;
 import org.gridsuite.ds.server.dto.DynamicSimulationParametersInfos;
+import org.gridsuite.ds.server.dto.RunPriority;
+import org.gridsuite.ds.server.dto.SweepRunInfos;
 import org.gridsuite.ds.server.dto.event.EventInfos;
 
 import java.nio.file.Path;
@@ -30,17 +34,27 @@ public class DynamicSimulationRunContext extends AbstractComputationRunContext<D
 
     private UUID mappingId;
     private List<EventInfos> events;
+    private RunPriority priority = RunPriority.NORMAL;
+    // stamp of the network modifications given by the caller, runs on a stamped variant share a cached network snapshot
+    private String networkStamp;
+    // batch of runs differing only by their events, null for a single run
+    private UUID batchId;
+    // other runs of a batch run in parallel along with this one by the worker, see SimulationSweepService
+    private List<SweepRunInfos> sweepRuns = List.of();
 
     // --- Fields which are enriched in worker service --- //
 
     private Path workDir;
 
+    // parameters sets of the models given by the mapping, from which the parameters of each run are built
+    private List<ParametersSet> modelsParameters;
+
     private List<DynamicModelConfig> t0DynamicModelContent;
     private List<DynamicModelConfig> t1DynamicModelContent;
 
     private List<EventModelConfig> eventModelContent;
 
-    private String curveContent;
+    private OutputVariablesSupplier outputVariablesSupplier;
 
     private DynamicSimulationParameters t0DynamicSimulationParameters;
     private DynamicSimulationParameters t1DynamicSimulationParameters;
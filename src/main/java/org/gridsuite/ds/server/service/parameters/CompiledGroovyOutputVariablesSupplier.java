@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service.parameters;
+
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.dynamicsimulation.OutputVariable;
+import com.powsybl.dynamicsimulation.OutputVariablesSupplier;
+import com.powsybl.dynamicsimulation.groovy.OutputVariableGroovyExtension;
+import com.powsybl.iidm.network.Network;
+import groovy.lang.Binding;
+import groovy.lang.GroovyShell;
+import groovy.lang.Script;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.runtime.InvokerHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Output variables supplier evaluating a groovy script compiled once.
+ * <p>
+ * It supplies the same output variables as a {@link com.powsybl.dynamicsimulation.groovy.GroovyOutputVariablesSupplier},
+ * which compiles its script on each call, the output variables depending on the network they are supplied for.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public class CompiledGroovyOutputVariablesSupplier implements OutputVariablesSupplier {
+
+    private final Class<? extends Script> scriptClass;
+
+    private final List<OutputVariableGroovyExtension> extensions;
+
+    public CompiledGroovyOutputVariablesSupplier(String script, List<OutputVariableGroovyExtension> extensions) {
+        Objects.requireNonNull(script);
+        this.scriptClass = new GroovyShell(new CompilerConfiguration()).parse(script).getClass();
+        this.extensions = List.copyOf(Objects.requireNonNull(extensions));
+    }
+
+    @Override
+    public List<OutputVariable> get(Network network, ReportNode reportNode) {
+        List<OutputVariable> outputVariables = new ArrayList<>();
+        Binding binding = new Binding();
+        binding.setVariable("network", network);
+        extensions.forEach(extension -> extension.load(binding, outputVariables::add, reportNode));
+        // a new instance of the compiled script for each call, bound to its own network
+        InvokerHelper.createScript(scriptClass, binding).run();
+        return outputVariables;
+    }
+}
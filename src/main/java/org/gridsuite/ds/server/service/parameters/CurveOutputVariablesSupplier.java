@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service.parameters;
+
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.dynamicsimulation.OutputVariable;
+import com.powsybl.dynamicsimulation.OutputVariablesSupplier;
+import com.powsybl.dynawo.outputvariables.DynawoOutputVariablesBuilder;
+import com.powsybl.iidm.network.Network;
+import org.gridsuite.ds.server.dto.curve.CurveInfos;
+import org.gridsuite.ds.server.utils.EquipmentType;
+
+import java.util.*;
+
+import static org.gridsuite.ds.server.utils.EquipmentType.isStaticType;
+
+/**
+ * Output variables supplier built directly from the curves, without generating then evaluating a groovy script.
+ * <p>
+ * It supplies the same output variables as the script generated by {@link CurveGroovyGeneratorService}:
+ * one curve block per equipment, identified by its static id for static types, otherwise by its dynamic model id.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public class CurveOutputVariablesSupplier implements OutputVariablesSupplier {
+
+    private record CurveBlock(boolean isStatic, String equipmentId, String[] variables) {
+    }
+
+    private final List<CurveBlock> curveBlocks;
+
+    public CurveOutputVariablesSupplier(List<CurveInfos> curveInfosList) {
+        Objects.requireNonNull(curveInfosList);
+
+        // group variables by equipmentId, keeping the order of first appearance as the generated script
+        Map<String, EquipmentType> equipmentTypeByEquipmentIdMap = new HashMap<>();
+        Map<String, List<String>> variablesByEquipmentIdMap = new LinkedHashMap<>();
+        for (CurveInfos curveInfos : curveInfosList) {
+            equipmentTypeByEquipmentIdMap.putIfAbsent(curveInfos.getEquipmentId(), curveInfos.getEquipmentType());
+            variablesByEquipmentIdMap.computeIfAbsent(curveInfos.getEquipmentId(), k -> new ArrayList<>()).add(curveInfos.getVariableId());
+        }
+
+        curveBlocks = variablesByEquipmentIdMap.entrySet().stream()
+                .map(entry -> new CurveBlock(isStaticType(equipmentTypeByEquipmentIdMap.get(entry.getKey())),
+                        entry.getKey(), entry.getValue().toArray(String[]::new)))
+                .toList();
+    }
+
+    @Override
+    public List<OutputVariable> get(Network network, ReportNode reportNode) {
+        List<OutputVariable> outputVariables = new ArrayList<>();
+        for (CurveBlock curveBlock : curveBlocks) {
+            DynawoOutputVariablesBuilder builder = new DynawoOutputVariablesBuilder(reportNode)
+                    .outputType(OutputVariable.OutputType.CURVE);
+            if (curveBlock.isStatic()) {
+                builder.staticId(curveBlock.equipmentId());
+            } else {
+                builder.dynamicModelId(curveBlock.equipmentId());
+            }
+            builder.variables(curveBlock.variables())
+                    .add(outputVariables::add);
+        }
+        return outputVariables;
+    }
+}
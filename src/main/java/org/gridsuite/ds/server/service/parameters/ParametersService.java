@@ -7,6 +7,8 @@
 package org.gridsuite.ds.server.service.parameters;
 
 import com.powsybl.dynamicsimulation.DynamicSimulationParameters;
+import com.powsybl.dynamicsimulation.OutputVariablesSupplier;
+import com.powsybl.dynawo.parameters.ParametersSet;
 import com.powsybl.dynawo.suppliers.dynamicmodels.DynamicModelConfig;
 import com.powsybl.dynawo.suppliers.events.EventModelConfig;
 import com.powsybl.iidm.network.Network;
@@ -30,7 +32,23 @@ public interface ParametersService {
 
     String getCurveModel(List<CurveInfos> curves);
 
-    DynamicSimulationParameters getDynamicSimulationParameters(byte[] dynamicParams, String provider, DynamicSimulationParametersInfos inputParameters);
+    /**
+     * Get the output variables supplier of the given curves, according to the configured {@link CurvesSupplierType}
+     */
+    OutputVariablesSupplier getOutputVariablesSupplier(List<CurveInfos> curves);
+
+    enum CurvesSupplierType {
+        /**
+         * Output variables are built directly from the curves
+         */
+        NATIVE,
+        /**
+         * Output variables are built by evaluating a generated groovy script
+         */
+        GROOVY
+    }
+
+    DynamicSimulationParameters getDynamicSimulationParameters(List<ParametersSet> modelsParameters, String provider, DynamicSimulationParametersInfos inputParameters);
 
     DynamicSimulationRunContext createRunContext(UUID networkUuid, String variantId, String receiver, ReportInfos reportContext,
                                                  String userId, UUID parametersUuid, List<EventInfos> events, boolean debug);
@@ -7,11 +7,14 @@
 
 package org.gridsuite.ds.server.service.parameters.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.powsybl.commons.PowsyblException;
 import org.apache.commons.io.IOUtils;
 import org.gridsuite.ds.server.dto.curve.CurveInfos;
 import org.gridsuite.ds.server.service.parameters.CurveGroovyGeneratorService;
 import org.gridsuite.ds.server.utils.EquipmentType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.stringtemplate.v4.ST;
@@ -32,17 +35,43 @@ import static org.gridsuite.ds.server.utils.Utils.RESOURCE_PATH_DELIMITER;
  */
 @Service
 public class CurveGroovyGeneratorServiceImpl implements CurveGroovyGeneratorService {
-    public String generate(List<CurveInfos> curveInfosList) {
-        Objects.requireNonNull(curveInfosList);
 
-        String curvesTemplate;
-        String curveTemplate;
+    /**
+     * Content of a curve which is relevant for the generated script, used as cache key
+     */
+    private record CurveKey(EquipmentType equipmentType, String equipmentId, String variableId) {
+    }
+
+    private final String curvesTemplate;
+    private final String curveTemplate;
+
+    // generated scripts by the content of the curve list
+    private final Cache<List<CurveKey>, String> scriptCache;
+
+    public CurveGroovyGeneratorServiceImpl(@Value("${dynamic-simulation.cache.curve.max-size:100}") long maxSize) {
+        // templates are loaded only once
         try {
             curvesTemplate = IOUtils.toString(new ClassPathResource(CURVES_TEMPLATE_DIR + RESOURCE_PATH_DELIMITER + "curves.st").getInputStream(), Charset.defaultCharset());
             curveTemplate = IOUtils.toString(new ClassPathResource(CURVES_TEMPLATE_DIR + RESOURCE_PATH_DELIMITER + "curve.st").getInputStream(), Charset.defaultCharset());
         } catch (IOException e) {
             throw new PowsyblException("Unable to load templates for groovy script generation : " + e.getMessage());
         }
+        scriptCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public String generate(List<CurveInfos> curveInfosList) {
+        Objects.requireNonNull(curveInfosList);
+
+        List<CurveKey> curveKeys = curveInfosList.stream()
+                .map(curveInfos -> new CurveKey(curveInfos.getEquipmentType(), curveInfos.getEquipmentId(), curveInfos.getVariableId()))
+                .toList();
+
+        return scriptCache.get(curveKeys, key -> doGenerate(curveInfosList));
+    }
+
+    private String doGenerate(List<CurveInfos> curveInfosList) {
         // config root template
         ST curvesST = new ST(curvesTemplate);
 
@@ -6,10 +6,14 @@
  */
 package org.gridsuite.ds.server.service.parameters.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.powsybl.commons.PowsyblException;
-import com.powsybl.commons.exceptions.UncheckedXmlStreamException;
 import com.powsybl.dynamicsimulation.DynamicSimulationParameters;
 import com.powsybl.dynamicsimulation.DynamicSimulationProvider;
+import com.powsybl.dynamicsimulation.OutputVariablesSupplier;
+import com.powsybl.dynamicsimulation.groovy.GroovyExtension;
+import com.powsybl.dynamicsimulation.groovy.OutputVariableGroovyExtension;
 import com.powsybl.dynawo.DynawoSimulationParameters;
 import com.powsybl.dynawo.DynawoSimulationProvider;
 import com.powsybl.dynawo.parameters.ParametersSet;
@@ -18,14 +22,10 @@ import com.powsybl.dynawo.suppliers.PropertyType;
 import com.powsybl.dynawo.suppliers.SetGroupType;
 import com.powsybl.dynawo.suppliers.dynamicmodels.DynamicModelConfig;
 import com.powsybl.dynawo.suppliers.events.EventModelConfig;
-import com.powsybl.dynawo.xml.ParametersXml;
 import com.powsybl.iidm.network.Identifiable;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.VariantManagerConstants;
-import com.powsybl.network.store.client.NetworkStoreService;
-import com.powsybl.network.store.client.PreloadingStrategy;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.gridsuite.computation.dto.ReportInfos;
 import org.gridsuite.computation.error.ComputationException;
@@ -34,7 +34,6 @@ import org.gridsuite.ds.server.dto.DynamicSimulationParametersValues;
 import org.gridsuite.ds.server.dto.XmlSerializableParameter;
 import org.gridsuite.ds.server.dto.curve.CurveInfos;
 import org.gridsuite.ds.server.dto.dynamicmapping.InputMapping;
-import org.gridsuite.ds.server.dto.dynamicmapping.ParameterFile;
 import org.gridsuite.ds.server.dto.dynamicmapping.Rule;
 import org.gridsuite.ds.server.dto.dynamicmapping.automata.Automaton;
 import org.gridsuite.ds.server.dto.event.EventInfos;
@@ -43,12 +42,17 @@ import org.gridsuite.ds.server.dto.solver.SolverInfos;
 import org.gridsuite.ds.server.entities.parameters.DynamicSimulationParametersEntity;
 import org.gridsuite.ds.server.error.DynamicSimulationException;
 import org.gridsuite.ds.server.repository.DynamicSimulationParametersRepository;
-import org.gridsuite.ds.server.service.client.FilterClient;
-import org.gridsuite.ds.server.service.client.dynamicmapping.DynamicMappingClient;
+import org.gridsuite.ds.server.service.DynamicSimulationObserver;
+import org.gridsuite.ds.server.service.NetworkPreloadingService;
+import org.gridsuite.ds.server.service.cache.DynamicMappingCacheService;
+import org.gridsuite.ds.server.service.cache.FilterCacheService;
 import org.gridsuite.ds.server.service.contexts.DynamicSimulationRunContext;
+import org.gridsuite.ds.server.service.parameters.CompiledGroovyOutputVariablesSupplier;
 import org.gridsuite.ds.server.service.parameters.CurveGroovyGeneratorService;
+import org.gridsuite.ds.server.service.parameters.CurveOutputVariablesSupplier;
 import org.gridsuite.ds.server.service.parameters.ParameterUtils;
 import org.gridsuite.ds.server.service.parameters.ParametersService;
+import org.gridsuite.ds.server.utils.OpenHashStringSet;
 import org.gridsuite.ds.server.utils.Utils;
 import org.gridsuite.filter.expertfilter.ExpertFilter;
 import org.gridsuite.filter.expertfilter.expertrule.CombinatorExpertRule;
@@ -60,17 +64,18 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import javax.xml.stream.XMLStreamException;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.nio.charset.StandardCharsets;
+import jakarta.annotation.PreDestroy;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static org.gridsuite.computation.error.ComputationBusinessErrorCode.PARAMETERS_NOT_FOUND;
 import static org.gridsuite.ds.server.dto.network.NetworkInfos.NETWORK_ID;
@@ -87,26 +92,53 @@ public class ParametersServiceImpl implements ParametersService {
     public static final String MSG_PARAMETERS_UUID_NOT_FOUND = "Parameters uuid not found: ";
 
     private final DynamicSimulationParametersRepository dynamicSimulationParametersRepository;
-    private final NetworkStoreService networkStoreService;
+    private final NetworkPreloadingService networkPreloadingService;
     private final CurveGroovyGeneratorService curveGroovyGeneratorService;
-    private final DynamicMappingClient dynamicMappingClient;
-    private final FilterClient filterClient;
+    private final DynamicMappingCacheService dynamicMappingCacheService;
+    private final FilterCacheService filterCacheService;
+
+    private final DynamicSimulationObserver dynamicSimulationObserver;
 
     private final String defaultProvider;
 
+    // null when mapping rules are evaluated sequentially
+    private final ExecutorService mappingExecutor;
+
+    private final CurvesSupplierType curvesSupplierType;
+
+    // groovy output variables suppliers by generated curve model, each one holding its compiled script
+    private final Cache<String, OutputVariablesSupplier> outputVariablesSupplierCache;
+
     @Autowired
     public ParametersServiceImpl(DynamicSimulationParametersRepository dynamicSimulationParametersRepository,
-                                 NetworkStoreService networkStoreService,
+                                 NetworkPreloadingService networkPreloadingService,
                                  CurveGroovyGeneratorService curveGroovyGeneratorService,
-                                 DynamicMappingClient dynamicMappingClient,
-                                 FilterClient filterClient,
-                                 @Value("${dynamic-simulation.default-provider}") String defaultProvider) {
+                                 DynamicMappingCacheService dynamicMappingCacheService,
+                                 FilterCacheService filterCacheService,
+                                 DynamicSimulationObserver dynamicSimulationObserver,
+                                 @Value("${dynamic-simulation.default-provider}") String defaultProvider,
+                                 @Value("${dynamic-simulation.mapping.parallelism:1}") int mappingParallelism,
+                                 @Value("${dynamic-simulation.curves.supplier:NATIVE}") CurvesSupplierType curvesSupplierType,
+                                 @Value("${dynamic-simulation.cache.curve.max-size:100}") long curveCacheMaxSize) {
         this.dynamicSimulationParametersRepository = dynamicSimulationParametersRepository;
-        this.networkStoreService = networkStoreService;
+        this.networkPreloadingService = networkPreloadingService;
         this.curveGroovyGeneratorService = curveGroovyGeneratorService;
-        this.dynamicMappingClient = dynamicMappingClient;
-        this.filterClient = filterClient;
+        this.dynamicMappingCacheService = dynamicMappingCacheService;
+        this.filterCacheService = filterCacheService;
+        this.dynamicSimulationObserver = dynamicSimulationObserver;
         this.defaultProvider = defaultProvider;
+        this.mappingExecutor = mappingParallelism > 1 ? Executors.newFixedThreadPool(mappingParallelism, new CustomizableThreadFactory("ds-mapping-")) : null;
+        this.curvesSupplierType = curvesSupplierType;
+        this.outputVariablesSupplierCache = Caffeine.newBuilder()
+                .maximumSize(curveCacheMaxSize)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (mappingExecutor != null) {
+            mappingExecutor.shutdownNow();
+        }
     }
 
     @Override
@@ -129,47 +161,51 @@ public class ParametersServiceImpl implements ParametersService {
         return generatedGroovyCurves;
     }
 
-    private DynawoSimulationParameters getDynawoSimulationParameters(byte[] dynamicParams, DynamicSimulationParametersInfos inputParameters) {
-        try {
-            DynawoSimulationParameters dynawoSimulationParameters = new DynawoSimulationParameters();
-            // --- MODEL PAR --- //
-            List<ParametersSet> modelsParameters = !ArrayUtils.isEmpty(dynamicParams) ? ParametersXml.load(new ByteArrayInputStream(dynamicParams)) : List.of();
-            dynawoSimulationParameters.setModelsParameters(modelsParameters);
-
-            // --- SOLVER PAR --- //
-            // solver from input parameter
-            SolverInfos inputSolver = inputParameters.getSolvers().stream().filter(elem -> elem.getType() == inputParameters.getSolver()).findFirst().orElse(null);
-            if (inputSolver != null) {
-                ByteArrayOutputStream os = new ByteArrayOutputStream();
-                XmlSerializableParameter.writeParameter(os, XmlSerializableParameter.PARAMETER_SET, inputSolver);
-                ParametersSet solverParameters = ParametersXml.load(new ByteArrayInputStream(os.toByteArray()), inputSolver.getType().name());
-                dynawoSimulationParameters.setSolverType(inputSolver.getType());
-                dynawoSimulationParameters.setSolverParameters(solverParameters);
-            }
+    @Override
+    public OutputVariablesSupplier getOutputVariablesSupplier(List<CurveInfos> curves) {
+        if (curvesSupplierType == CurvesSupplierType.NATIVE) {
+            return new CurveOutputVariablesSupplier(curves != null ? curves : Collections.emptyList());
+        }
 
-            // --- NETWORK PAR --- //
-            // network from input parameters
-            NetworkInfos network = inputParameters.getNetwork();
-            if (network != null) {
-                ByteArrayOutputStream os = new ByteArrayOutputStream();
-                XmlSerializableParameter.writeParameter(os, XmlSerializableParameter.PARAMETER_SET, network);
-                ParametersSet networkParameters = ParametersXml.load(new ByteArrayInputStream(os.toByteArray()), NETWORK_ID);
-                dynawoSimulationParameters.setNetworkParameters(networkParameters);
-            }
+        // groovy scripts
+        String curveModel = getCurveModel(curves);
+        return outputVariablesSupplierCache.get(curveModel, script -> new CompiledGroovyOutputVariablesSupplier(script,
+                GroovyExtension.find(OutputVariableGroovyExtension.class, DynawoSimulationProvider.NAME)));
+    }
 
-            return dynawoSimulationParameters;
-        } catch (XMLStreamException e) {
-            throw new UncheckedXmlStreamException(e);
+    private DynawoSimulationParameters getDynawoSimulationParameters(List<ParametersSet> modelsParameters, DynamicSimulationParametersInfos inputParameters) {
+        DynawoSimulationParameters dynawoSimulationParameters = new DynawoSimulationParameters();
+        // --- MODEL PAR --- //
+        // the given parameters sets are shared between runs, each run gets its own copies
+        dynawoSimulationParameters.setModelsParameters(modelsParameters.stream().map(Utils::copyParametersSet).toList());
+
+        // --- SOLVER PAR --- //
+        // solver from input parameter
+        SolverInfos inputSolver = inputParameters.getSolvers().stream().filter(elem -> elem.getType() == inputParameters.getSolver()).findFirst().orElse(null);
+        if (inputSolver != null) {
+            ParametersSet solverParameters = XmlSerializableParameter.toParametersSet(inputSolver.getType().name(), inputSolver);
+            dynawoSimulationParameters.setSolverType(inputSolver.getType());
+            dynawoSimulationParameters.setSolverParameters(solverParameters);
         }
+
+        // --- NETWORK PAR --- //
+        // network from input parameters
+        NetworkInfos network = inputParameters.getNetwork();
+        if (network != null) {
+            ParametersSet networkParameters = XmlSerializableParameter.toParametersSet(NETWORK_ID, network);
+            dynawoSimulationParameters.setNetworkParameters(networkParameters);
+        }
+
+        return dynawoSimulationParameters;
     }
 
     @Override
-    public DynamicSimulationParameters getDynamicSimulationParameters(byte[] dynamicParams, String provider, DynamicSimulationParametersInfos inputParameters) {
+    public DynamicSimulationParameters getDynamicSimulationParameters(List<ParametersSet> modelsParameters, String provider, DynamicSimulationParametersInfos inputParameters) {
         DynamicSimulationParameters parameters = new DynamicSimulationParameters();
 
         // TODO: Powsybl side - create an explicit dependency to Dynawo class and keep dynamic simulation abstraction all over this micro service
         if (DynawoSimulationProvider.NAME.equals(provider)) {
-            DynawoSimulationParameters dynawoSimulationParameters = getDynawoSimulationParameters(dynamicParams, inputParameters);
+            DynawoSimulationParameters dynawoSimulationParameters = getDynawoSimulationParameters(modelsParameters, inputParameters);
 
             // TODO : a bug in powsybl-dynawo while deserializing in dynamic security analysis server, TO REMOVE
             Set<DynawoSimulationParameters.SpecificLog> specificLogs = EnumSet.of(DynawoSimulationParameters.SpecificLog.NETWORK);
@@ -231,8 +267,9 @@ public class ParametersServiceImpl implements ParametersService {
 
         // --- transform equipment rules to DynamicModelConfigs --- //
         List<Rule> allRules = inputMapping.rules();
-        // grouping rules by equipment type
-        Map<EquipmentType, List<Rule>> rulesByEquipmentTypeMap = allRules.stream().collect(Collectors.groupingBy(Rule::equipmentType));
+        // grouping rules by equipment type, keeping the order of first appearance to get a deterministic result
+        Map<EquipmentType, List<Rule>> rulesByEquipmentTypeMap = allRules.stream()
+                .collect(Collectors.groupingBy(Rule::equipmentType, LinkedHashMap::new, Collectors.toList()));
 
         // Only last rule can have empty filter checking
         rulesByEquipmentTypeMap.forEach((equipmentType, rules) -> {
@@ -243,13 +280,24 @@ public class ParametersServiceImpl implements ParametersService {
             }
         });
 
-        // performing transformation
-        rulesByEquipmentTypeMap.forEach((equipmentType, rules) -> {
-            // accumulate matched equipment ids to compute otherwise case (last rule without filters)
-            Set<String> matchedEquipmentIdsOfCurrentType = new TreeSet<>();
+        // filters fetched while evaluating rules are shared by all rules of the mapping
+        FilterCacheService.RequestScope filterLoader = filterCacheService.createRequestScope();
 
-            dynamicModel.addAll(rules.stream().flatMap(rule -> getDynamicModelConfigStream(network, equipmentType, rule, matchedEquipmentIdsOfCurrentType)).toList());
-        });
+        // performing transformation, rules of different equipment types are independent, so they can be evaluated in parallel
+        // while rules of a same type are evaluated in order to keep the otherwise case semantic
+        List<List<DynamicModelConfig>> dynamicModelsByEquipmentType;
+        if (mappingExecutor == null || rulesByEquipmentTypeMap.size() <= 1) {
+            dynamicModelsByEquipmentType = rulesByEquipmentTypeMap.entrySet().stream()
+                    .map(entry -> getDynamicModelOfEquipmentType(network, entry.getKey(), entry.getValue(), filterLoader))
+                    .toList();
+        } else {
+            List<CompletableFuture<List<DynamicModelConfig>>> futures = rulesByEquipmentTypeMap.entrySet().stream()
+                    .map(entry -> CompletableFuture.supplyAsync(() -> getDynamicModelOfEquipmentType(network, entry.getKey(), entry.getValue(), filterLoader), mappingExecutor))
+                    .toList();
+            // merge in the order of the equipment types, whatever the order of completion
+            dynamicModelsByEquipmentType = futures.stream().map(ParametersServiceImpl::join).toList();
+        }
+        dynamicModelsByEquipmentType.forEach(dynamicModel::addAll);
 
         // transform automatons to DynamicModelConfigs
         List<Automaton> automata = inputMapping.automata();
@@ -260,10 +308,38 @@ public class ParametersServiceImpl implements ParametersService {
                         automaton.properties().stream().map(Utils::convertProperty).filter(Objects::nonNull).toList())
         ).toList());
 
-        return dynamicModel;
+        return Collections.unmodifiableList(dynamicModel);
+    }
+
+    private List<DynamicModelConfig> getDynamicModelOfEquipmentType(Network network, EquipmentType equipmentType, List<Rule> rules,
+                                                                    FilterCacheService.RequestScope filterLoader) {
+        return dynamicSimulationObserver.observeStage("mapping-" + equipmentType, () -> {
+            // accumulate matched equipment ids to compute otherwise case (last rule without filters)
+            OpenHashStringSet matchedEquipmentIdsOfCurrentType = new OpenHashStringSet();
+
+            // rules evaluated one after the other, each one seeing the equipments matched by the previous ones
+            List<DynamicModelConfig> dynamicModelOfEquipmentType = new ArrayList<>();
+            for (Rule rule : rules) {
+                dynamicModelOfEquipmentType.addAll(getDynamicModelConfigs(network, equipmentType, rule, matchedEquipmentIdsOfCurrentType, filterLoader));
+            }
+            return dynamicModelOfEquipmentType;
+        });
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // rethrow the original exception, e.g. a DynamicSimulationException, to be handled as in sequential mode
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
-    private Stream<DynamicModelConfig> getDynamicModelConfigStream(Network network, EquipmentType equipmentType, Rule rule, Set<String> matchedEquipmentIdsOfCurrentType) {
+    private List<DynamicModelConfig> getDynamicModelConfigs(Network network, EquipmentType equipmentType, Rule rule, OpenHashStringSet matchedEquipmentIdsOfCurrentType,
+                                                            FilterCacheService.RequestScope filterLoader) {
         ExpertFilter filter = rule.filter();
 
         // otherwise case, create an expert filter with AND operator and empty rules to get all equipments of the same type
@@ -274,24 +350,24 @@ public class ParametersServiceImpl implements ParametersService {
                     .build();
         }
 
-        List<Identifiable<?>> matchedEquipmentsOfCurrentRule = FiltersUtils.getIdentifiables(filter, network, filterClient::getFilters);
-
-        // eliminate already matched equipments to avoid duplication
-        if (!matchedEquipmentIdsOfCurrentType.isEmpty()) {
-            matchedEquipmentsOfCurrentRule = matchedEquipmentsOfCurrentRule.stream().filter(elem -> !matchedEquipmentIdsOfCurrentType.contains(elem.getId())).toList();
+        List<Identifiable<?>> matchedEquipmentsOfCurrentRule = FiltersUtils.getIdentifiables(filter, network, filterLoader::getFilters);
+
+        // eliminate already matched equipments to avoid duplication, newly matched ones are marked in the same pass
+        List<DynamicModelConfig> dynamicModelConfigs = new ArrayList<>();
+        for (Identifiable<?> equipment : matchedEquipmentsOfCurrentRule) {
+            if (matchedEquipmentIdsOfCurrentType.add(equipment.getId())) {
+                dynamicModelConfigs.add(new DynamicModelConfig(
+                        rule.mappedModel(),
+                        rule.setGroup(),
+                        SetGroupType.valueOf(rule.groupType().name()),
+                        List.of(new PropertyBuilder()
+                                .name(FIELD_STATIC_ID)
+                                .value(equipment.getId())
+                                .type(PropertyType.STRING)
+                                .build())));
+            }
         }
-
-        matchedEquipmentIdsOfCurrentType.addAll(matchedEquipmentsOfCurrentRule.stream().map(Identifiable::getId).toList());
-
-        return matchedEquipmentsOfCurrentRule.stream().map(equipment -> new DynamicModelConfig(
-                rule.mappedModel(),
-                rule.setGroup(),
-                SetGroupType.valueOf(rule.groupType().name()),
-                List.of(new PropertyBuilder()
-                        .name(FIELD_STATIC_ID)
-                        .value(equipment.getId())
-                        .type(PropertyType.STRING)
-                        .build())));
+        return dynamicModelConfigs;
     }
 
     private DynamicSimulationParametersValues getParametersValues(DynamicSimulationParametersInfos parametersInfos, Network network) {
@@ -299,24 +375,23 @@ public class ParametersServiceImpl implements ParametersService {
             throw new DynamicSimulationException(MAPPING_NOT_PROVIDED, "Dynamic simulation mapping id not provided");
         }
 
-        // get parameters file from dynamic mapping server
-        ParameterFile parameterFile = dynamicMappingClient.exportParameters(parametersInfos.getMappingId());
+        // get parsed parameters file from dynamic mapping server
+        List<ParametersSet> modelsParameters = dynamicMappingCacheService.getModelsParameters(parametersInfos.getMappingId());
 
         // get dynawo simulation parameters
-        String parameterFileContent = parameterFile.fileContent();
-        DynawoSimulationParameters dynawoSimulationParameters = getDynawoSimulationParameters(
-                parameterFileContent.getBytes(StandardCharsets.UTF_8), parametersInfos);
+        DynawoSimulationParameters dynawoSimulationParameters = getDynawoSimulationParameters(modelsParameters, parametersInfos);
 
         // get mapping then generate dynamic model configs
-        InputMapping inputMapping = dynamicMappingClient.getMapping(parametersInfos.getMappingId());
+        InputMapping inputMapping = dynamicMappingCacheService.getMapping(parametersInfos.getMappingId());
         List<DynamicModelConfig> dynamicModel = getDynamicModel(inputMapping, network);
+        networkPreloadingService.recordLoad(network);
 
         return new DynamicSimulationParametersValues(dynamicModel, dynawoSimulationParameters);
     }
 
     private Network getNetwork(UUID networkUuid, String variantId) {
         try {
-            Network network = networkStoreService.getNetwork(networkUuid, PreloadingStrategy.COLLECTION);
+            Network network = networkPreloadingService.getNetwork(networkUuid);
             String variant = StringUtils.isBlank(variantId) ? VariantManagerConstants.INITIAL_VARIANT_ID : variantId;
             network.getVariantManager().setWorkingVariant(variant);
             return network;
@@ -327,7 +402,7 @@ public class ParametersServiceImpl implements ParametersService {
 
     @Override
     public List<DynamicModelConfig> getDynamicModel(UUID mappingId, UUID networkUuid, String variantId) {
-        InputMapping inputMapping = dynamicMappingClient.getMapping(mappingId);
+        InputMapping inputMapping = dynamicMappingCacheService.getMapping(mappingId);
         Network network = getNetwork(networkUuid, variantId);
 
         return getDynamicModel(inputMapping, network);
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.utils;
+
+/**
+ * Encoding of a stored result content, recorded along with the content so that readers decode it correctly.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public enum ArtifactCodec {
+    /**
+     * Content stored as is
+     */
+    NONE(false),
+    /**
+     * Content compressed into a single gzip member
+     */
+    GZIP(true),
+    /**
+     * Content split into blocks compressed in parallel, each one into its own gzip member.
+     * Concatenated gzip members are a valid gzip stream, decoded as the whole content by any gzip reader
+     */
+    PARALLEL_GZIP(true);
+
+    /**
+     * Response header giving the codec of a downloaded content
+     */
+    public static final String HEADER_ARTIFACT_CODEC = "X-Artifact-Codec";
+
+    private final boolean gzipFormat;
+
+    ArtifactCodec(boolean gzipFormat) {
+        this.gzipFormat = gzipFormat;
+    }
+
+    /**
+     * @return true if the encoded content is readable by a gzip reader
+     */
+    public boolean isGzipFormat() {
+        return gzipFormat;
+    }
+}
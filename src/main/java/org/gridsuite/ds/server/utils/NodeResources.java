@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.utils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+
+/**
+ * Resources of the node, or of the container when limits are set, which are available to run simulations
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public final class NodeResources {
+
+    private NodeResources() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    public static int getAvailableProcessors() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * @return the memory left to the Dynawo processes, i.e. the total memory minus the maximum heap of this JVM,
+     * 0 if the total memory is unknown
+     */
+    public static long getAvailableMemory() {
+        OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+        if (operatingSystem instanceof com.sun.management.OperatingSystemMXBean os) {
+            return Math.max(0, os.getTotalMemorySize() - Runtime.getRuntime().maxMemory());
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.utils;
+
+import java.util.Objects;
+
+/**
+ * Compact set of non-null strings using open addressing with linear probing.
+ * <p>
+ * Strings are stored directly in a single array, without any entry or node object, and their cached hash code is reused,
+ * so that adding or looking up an equipment id does not allocate. Removal is not supported. Not thread safe.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public final class OpenHashStringSet {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private String[] table;
+    private int mask;
+    private int size;
+
+    public OpenHashStringSet() {
+        this(MIN_CAPACITY);
+    }
+
+    public OpenHashStringSet(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(String value) {
+        Objects.requireNonNull(value);
+        int index = indexOf(value);
+        return table[index] != null;
+    }
+
+    /**
+     * @return true if the value was not already present
+     */
+    public boolean add(String value) {
+        Objects.requireNonNull(value);
+        int index = indexOf(value);
+        if (table[index] != null) {
+            return false;
+        }
+        table[index] = value;
+        // keep the load factor under 1/2 to have short probe sequences
+        if (++size > table.length >>> 1) {
+            rehash(table.length << 1);
+        }
+        return true;
+    }
+
+    private int indexOf(String value) {
+        int index = mix(value.hashCode()) & mask;
+        String current;
+        while ((current = table[index]) != null && !current.equals(value)) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void rehash(int newCapacity) {
+        String[] oldTable = table;
+        allocate(newCapacity);
+        for (String value : oldTable) {
+            if (value != null) {
+                table[indexOf(value)] = value;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        table = new String[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize) * 2 - 1) << 1;
+        return capacity > 0 ? capacity : 1 << 30;
+    }
+
+    private static int mix(int hash) {
+        // spread the bits of the string hash code, ids often only differ by their last characters
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
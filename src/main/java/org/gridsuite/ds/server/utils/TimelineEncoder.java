@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.utils;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.powsybl.dynamicsimulation.TimelineEvent;
+import com.powsybl.timeseries.IrregularTimeSeriesIndex;
+import com.powsybl.timeseries.StringTimeSeries;
+import com.powsybl.timeseries.TimeSeries;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encode timeline events into a string time series, each value being the JSON of the event as written by Jackson.
+ * <p>
+ * Model names and messages are highly repeated in a timeline, e.g. with cascading tripping, so their escaped JSON
+ * fragments are computed once and kept in a dictionary. Each event is then written in a single reused buffer
+ * and the time index is filled in a primitive array.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public final class TimelineEncoder {
+
+    private static final String NULL_FRAGMENT = "null";
+
+    private final Map<String, String> fragments = new HashMap<>();
+
+    private final StringBuilder buffer = new StringBuilder(256);
+
+    private TimelineEncoder() {
+    }
+
+    public static StringTimeSeries encode(String name, List<TimelineEvent> timeline) {
+        return new TimelineEncoder().doEncode(name, timeline);
+    }
+
+    private StringTimeSeries doEncode(String name, List<TimelineEvent> timeline) {
+        int size = timeline.size();
+        long[] indexes = new long[size];
+        String[] values = new String[size];
+        for (int i = 0; i < size; i++) {
+            TimelineEvent event = timeline.get(i);
+            indexes[i] = (long) event.time();
+            values[i] = toJson(event);
+        }
+        return TimeSeries.createString(name, new IrregularTimeSeriesIndex(indexes), values);
+    }
+
+    private String toJson(TimelineEvent event) {
+        buffer.setLength(0);
+        buffer.append("{\"time\":");
+        appendDouble(event.time());
+        buffer.append(",\"modelName\":").append(getFragment(event.modelName()));
+        buffer.append(",\"message\":").append(getFragment(event.message()));
+        buffer.append('}');
+        return buffer.toString();
+    }
+
+    private void appendDouble(double value) {
+        if (Double.isFinite(value)) {
+            buffer.append(value);
+        } else {
+            // same as Jackson which quotes non numeric numbers by default
+            buffer.append('"').append(value).append('"');
+        }
+    }
+
+    private String getFragment(String value) {
+        if (value == null) {
+            return NULL_FRAGMENT;
+        }
+        return fragments.computeIfAbsent(value, v -> '"' + new String(JsonStringEncoder.getInstance().quoteAsString(v)) + '"');
+    }
+}
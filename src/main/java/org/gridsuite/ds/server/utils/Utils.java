@@ -9,16 +9,17 @@ package org.gridsuite.ds.server.utils;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.dynawo.parameters.ParametersSet;
 import com.powsybl.dynawo.suppliers.Property;
 import com.powsybl.dynawo.suppliers.PropertyBuilder;
 import com.powsybl.dynawo.suppliers.PropertyType;
 import com.powsybl.iidm.network.TwoSides;
+import org.apache.commons.io.function.IOConsumer;
 import org.apache.commons.lang3.StringUtils;
 import org.gridsuite.ds.server.dto.dynamicmapping.automata.BasicProperty;
 import org.gridsuite.ds.server.dto.event.EventPropertyInfos;
 
 import java.io.*;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -33,6 +34,8 @@ public final class Utils {
 
     public static final String RESOURCE_PATH_DELIMITER = "/";
 
+    private static final int ZIP_BUFFER_SIZE = 64 * 1024;
+
     private Utils() {
         throw new AssertionError("Utility class should not be instantiated");
     }
@@ -103,18 +106,33 @@ public final class Utils {
         }
     }
 
+    /**
+     * Copy a parameters set, e.g. a parsed parameters set shared between runs, to be modified by a single run
+     */
+    public static ParametersSet copyParametersSet(ParametersSet parametersSet) {
+        ParametersSet copy = new ParametersSet(parametersSet.getId());
+        parametersSet.getParameters().values().forEach(parameter ->
+                copy.addParameter(parameter.name(), parameter.type(), parameter.value()));
+        parametersSet.getReferences().forEach(reference ->
+                copy.addReference(reference.name(), reference.type(), reference.origData(), reference.origName(), reference.componentId()));
+        return copy;
+    }
+
     public static byte[] zip(String content) throws IOException {
         try (InputStream is = new ByteArrayInputStream(content.getBytes())) {
             return zip(is);
         }
     }
 
-    public static byte[] zip(Path filePath) {
-        try (InputStream is = Files.newInputStream(filePath)) {
-            return zip(is);
-        } catch (IOException e) {
-            throw new UncheckedIOException("Error occurred while zipping the file " + filePath.toAbsolutePath(), e);
+    /**
+     * Zip the content written by the given writer, without building an intermediate string
+     */
+    public static byte[] zip(IOConsumer<OutputStream> contentWriter) throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        try (GZIPOutputStream zipOs = new GZIPOutputStream(os, ZIP_BUFFER_SIZE)) {
+            contentWriter.accept(zipOs);
         }
+        return os.toByteArray();
     }
 
     private static void unzipToStream(byte[] zippedBytes, OutputStream outputStream) throws IOException {
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.logging.DeferredLogs;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.gridsuite.ds.server.config.WorkerConcurrencyEnvironmentPostProcessor.*;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+class WorkerConcurrencyEnvironmentPostProcessorTest {
+
+    private static final long GB = DataSize.ofGigabytes(1).toBytes();
+
+    @Test
+    void testComputeConcurrency() {
+        // limited by processors
+        assertThat(computeConcurrency(8, 64 * GB, 2, 4 * GB, 10)).isEqualTo(4);
+        // limited by memory
+        assertThat(computeConcurrency(32, 10 * GB, 2, 4 * GB, 10)).isEqualTo(2);
+        // limited by the maximum
+        assertThat(computeConcurrency(64, 256 * GB, 2, 4 * GB, 10)).isEqualTo(10);
+        // at least one run, unknown memory ignored
+        assertThat(computeConcurrency(1, 1 * GB, 2, 4 * GB, 10)).isEqualTo(1);
+        assertThat(computeConcurrency(8, 0, 2, 4 * GB, 10)).isEqualTo(4);
+    }
+
+    @Test
+    void testConfiguredConcurrency() {
+        MockEnvironment environment = new MockEnvironment().withProperty("dynamic-simulation.worker.concurrency", "4");
+        new WorkerConcurrencyEnvironmentPostProcessor(new DeferredLogs()).postProcessEnvironment(environment, new SpringApplication());
+        // a quarter of the slots reserved to the high priority lane by default
+        assertThat(environment.getProperty(RUN_CONCURRENCY_PROPERTY, Integer.class)).isEqualTo(3);
+        assertThat(environment.getProperty(RUN_HIGH_PRIORITY_CONCURRENCY_PROPERTY, Integer.class)).isEqualTo(1);
+
+        // a single slot kept by the normal lane, the high priority lane still consumed
+        environment = new MockEnvironment().withProperty("dynamic-simulation.worker.concurrency", "1");
+        new WorkerConcurrencyEnvironmentPostProcessor(new DeferredLogs()).postProcessEnvironment(environment, new SpringApplication());
+        assertThat(environment.getProperty(RUN_CONCURRENCY_PROPERTY, Integer.class)).isEqualTo(1);
+        assertThat(environment.getProperty(RUN_HIGH_PRIORITY_CONCURRENCY_PROPERTY, Integer.class)).isEqualTo(1);
+
+        // the whole concurrency reserved, one slot left to the normal lane
+        environment = new MockEnvironment()
+                .withProperty("dynamic-simulation.worker.concurrency", "4")
+                .withProperty("dynamic-simulation.worker.high-priority.reserved-share", "1");
+        new WorkerConcurrencyEnvironmentPostProcessor(new DeferredLogs()).postProcessEnvironment(environment, new SpringApplication());
+        assertThat(environment.getProperty(RUN_CONCURRENCY_PROPERTY, Integer.class)).isEqualTo(1);
+        assertThat(environment.getProperty(RUN_HIGH_PRIORITY_CONCURRENCY_PROPERTY, Integer.class)).isEqualTo(3);
+
+        // set on the binding, kept as is
+        environment = new MockEnvironment()
+                .withProperty("dynamic-simulation.worker.concurrency", "3")
+                .withProperty(RUN_CONCURRENCY_PROPERTY, "5");
+        new WorkerConcurrencyEnvironmentPostProcessor(new DeferredLogs()).postProcessEnvironment(environment, new SpringApplication());
+        assertThat(environment.getProperty(RUN_CONCURRENCY_PROPERTY, Integer.class)).isEqualTo(5);
+        assertThat(environment.getProperty(RUN_HIGH_PRIORITY_CONCURRENCY_PROPERTY, Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void testComputeReservedConcurrency() {
+        assertThat(computeReservedConcurrency(8, 0.25)).isEqualTo(2);
+        // at least one slot for the high priority lane
+        assertThat(computeReservedConcurrency(2, 0.25)).isEqualTo(1);
+        assertThat(computeReservedConcurrency(8, 0)).isEqualTo(1);
+        // reserved out of the concurrency, at least one slot left to the normal lane
+        assertThat(computeReservedConcurrency(4, 1)).isEqualTo(3);
+        assertThat(computeReservedConcurrency(1, 0.25)).isZero();
+    }
+}
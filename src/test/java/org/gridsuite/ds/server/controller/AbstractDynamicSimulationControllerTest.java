@@ -49,6 +49,7 @@ public abstract class AbstractDynamicSimulationControllerTest extends AbstractDy
     protected final String dsResultDestination = "ds.result.destination";
     protected final String dsStoppedDestination = "ds.stopped.destination";
     protected final String dsCancelFailedDestination = "ds.cancelfailed.destination";
+    protected final String dsRunHighDestination = "ds.run.high.destination";
 
     @MockitoBean
     protected DynamicMappingClient dynamicMappingClient;
@@ -35,14 +35,19 @@ import org.gridsuite.ds.server.dto.dynamicmapping.ParameterFile;
 import org.gridsuite.ds.server.dto.event.EventInfos;
 import org.gridsuite.ds.server.dto.timeseries.TimeSeriesGroupInfos;
 import org.gridsuite.ds.server.entities.parameters.DynamicSimulationParametersEntity;
+import org.gridsuite.ds.server.service.cache.DynamicMappingCacheService;
 import org.gridsuite.ds.server.service.client.timeseries.TimeSeriesClientTest;
 import org.gridsuite.ds.server.service.parameters.ParameterUtils;
 import org.gridsuite.ds.server.utils.Utils;
+import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.stream.binder.test.InputDestination;
 import org.springframework.cloud.stream.binder.test.OutputDestination;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.util.StreamUtils;
@@ -57,6 +62,7 @@ import java.util.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.gridsuite.computation.service.NotificationService.HEADER_RESULT_UUID;
 import static org.gridsuite.computation.service.NotificationService.HEADER_USER_ID;
+import static org.gridsuite.ds.server.service.cache.DynamicMappingCacheService.HEADER_MAPPING_ID;
 import static org.gridsuite.ds.server.utils.Utils.RESOURCE_PATH_DELIMITER;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -65,8 +71,14 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
+ * Runs with the mapping cache enabled, invalidated before each test
+ *
  * @author Thang PHAM <quyet-thang.pham at rte-france.com>
  */
+@TestPropertySource(properties = {
+    "dynamic-simulation.cache.mapping.enabled=true",
+    "spring.cloud.function.definition=consumeRun;consumeRunHigh;consumeCancel;consumeMappingInvalidation"
+})
 public class DynamicSimulationControllerIEEE14Test extends AbstractDynamicSimulationControllerTest {
     // mapping names
     public static final String MAPPING_01 = "_01";
@@ -86,6 +98,8 @@ public class DynamicSimulationControllerIEEE14Test extends AbstractDynamicSimula
     private static final String VARIANT_1_ID = "variant_1";
     private static final String NETWORK_FILE = "IEEE14.iidm";
 
+    private static final String MAPPING_UPDATED_DESTINATION = "dynamic.mapping.updated";
+
     private static final UUID PARAMETERS_UUID = UUID.fromString("5170a122-ebe5-4fa2-9cd9-d8f76ce04db3");
 
     // TODO remove when DynamicSimulationResultDeserializer correct curves by LinkedHashMap
@@ -102,6 +116,18 @@ public class DynamicSimulationControllerIEEE14Test extends AbstractDynamicSimula
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private InputDestination input;
+
+    @Autowired
+    private DynamicMappingCacheService dynamicMappingCacheService;
+
+    @Before
+    public void invalidateMappingCache() {
+        // mocked clients may return different contents from one test to another
+        dynamicMappingCacheService.invalidateAll();
+    }
+
     @Override
     public OutputDestination getOutputDestination() {
         return output;
@@ -329,5 +355,23 @@ public class DynamicSimulationControllerIEEE14Test extends AbstractDynamicSimula
                 .andReturn();
         List<DynamicModelConfig> dynamicModelConfigList = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() { });
         assertThat(dynamicModelConfigList).hasSize(21);
+
+        // the mapping is cached
+        mockMvc.perform(
+                        get("/v1/networks/{networkUuid}/export-dynamic-model?variantId=" +
+                            VARIANT_1_ID + "&mappingId=" + MAPPING_ID_01, NETWORK_UUID_STRING))
+                .andExpect(status().isOk());
+        Mockito.verify(dynamicMappingClient, Mockito.times(1)).getMapping(MAPPING_ID_01);
+
+        // fetched again once invalidated by the dynamic mapping server
+        input.send(MessageBuilder.withPayload("").setHeader(HEADER_MAPPING_ID, MAPPING_ID_01.toString()).build(), MAPPING_UPDATED_DESTINATION);
+        result = mockMvc.perform(
+                        get("/v1/networks/{networkUuid}/export-dynamic-model?variantId=" +
+                            VARIANT_1_ID + "&mappingId=" + MAPPING_ID_01, NETWORK_UUID_STRING))
+                .andExpect(status().isOk())
+                .andReturn();
+        dynamicModelConfigList = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() { });
+        assertThat(dynamicModelConfigList).hasSize(21);
+        Mockito.verify(dynamicMappingClient, Mockito.times(2)).getMapping(MAPPING_ID_01);
     }
 }
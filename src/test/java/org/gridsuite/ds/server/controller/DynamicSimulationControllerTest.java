@@ -6,6 +6,7 @@
  */
 package org.gridsuite.ds.server.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.powsybl.commons.datasource.ReadOnlyDataSource;
 import com.powsybl.commons.datasource.ResourceDataSource;
@@ -24,6 +25,7 @@ import org.gridsuite.computation.service.NotificationService;
 import org.gridsuite.ds.server.controller.utils.ParameterTestUtils;
 import org.gridsuite.ds.server.dto.DynamicSimulationParametersInfos;
 import org.gridsuite.ds.server.dto.DynamicSimulationStatus;
+import org.gridsuite.ds.server.dto.RunPriority;
 import org.gridsuite.ds.server.dto.dynamicmapping.ParameterFile;
 import org.gridsuite.ds.server.dto.event.EventInfos;
 import org.gridsuite.ds.server.dto.timeseries.TimeSeriesGroupInfos;
@@ -64,11 +66,14 @@ import static org.gridsuite.computation.s3.ComputationS3Service.METADATA_FILE_NA
 import static org.gridsuite.computation.service.NotificationService.*;
 import static org.gridsuite.ds.server.controller.utils.TestUtils.assertType;
 import static org.gridsuite.ds.server.service.DynamicSimulationService.COMPUTATION_TYPE;
+import static org.gridsuite.ds.server.service.contexts.DynamicSimulationResultContext.HEADER_BATCH_ID;
+import static org.gridsuite.ds.server.service.contexts.DynamicSimulationResultContext.HEADER_PRIORITY;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.testcontainers.shaded.org.awaitility.Awaitility.await;
 
@@ -402,6 +407,75 @@ public class DynamicSimulationControllerTest extends AbstractDynamicSimulationCo
 
     }
 
+    @Test
+    public void testRunHighPriority() throws Exception {
+        doReturn(CompletableFuture.completedFuture(new DynamicSimulationResultImpl(DynamicSimulationResult.Status.SUCCESS, "", Map.of(), Map.of(), List.of())))
+                .when(dynamicSimulationWorkerService).getCompletableFuture(any(), any(), any());
+
+        // run the dynamic simulation in the high priority lane
+        MvcResult result = mockMvc.perform(
+                post("/v1/networks/{networkUuid}/run", NETWORK_UUID_STRING)
+                    .param("parametersUuid", PARAMETERS_UUID.toString())
+                    .param("priority", RunPriority.HIGH.name())
+                    .contentType(APPLICATION_JSON)
+                    .header(HEADER_USER_ID, "testUserId")
+                    .content(objectMapper.writeValueAsString(List.of())))
+                .andExpect(status().isOk())
+                .andReturn();
+        UUID runUuid = objectMapper.readValue(result.getResponse().getContentAsString(), UUID.class);
+
+        // published in the high priority lane
+        Message<byte[]> runMessage = output.receive(1000, dsRunHighDestination);
+        assertThat(runMessage).isNotNull();
+        assertThat(runMessage.getHeaders()).containsEntry(HEADER_RESULT_UUID, runUuid.toString())
+                .containsEntry(HEADER_PRIORITY, RunPriority.HIGH.name());
+
+        // processed as a normal priority run
+        Message<byte[]> messageSwitch = output.receive(1000 * 10, dsResultDestination);
+        assertThat(messageSwitch.getHeaders()).containsEntry(HEADER_RESULT_UUID, runUuid.toString());
+
+        result = mockMvc.perform(
+                        get("/v1/results/{resultUuid}/status", runUuid))
+                .andExpect(status().isOk())
+                .andReturn();
+        DynamicSimulationStatus status = objectMapper.readValue(result.getResponse().getContentAsString(), DynamicSimulationStatus.class);
+        assertThat(status).isSameAs(DynamicSimulationStatus.CONVERGED);
+    }
+
+    @Test
+    public void testRunBatch() throws Exception {
+        doReturn(CompletableFuture.completedFuture(new DynamicSimulationResultImpl(DynamicSimulationResult.Status.SUCCESS, "", Map.of(), Map.of(), List.of())))
+                .when(dynamicSimulationWorkerService).getCompletableFuture(any(), any(), any());
+
+        // run a batch of dynamic simulations differing only by their events
+        List<List<EventInfos>> eventsList = List.of(List.of(), ParameterTestUtils.getEventInfosList());
+        MvcResult result = mockMvc.perform(
+                post("/v1/networks/{networkUuid}/run-batch", NETWORK_UUID_STRING)
+                    .param("parametersUuid", PARAMETERS_UUID.toString())
+                    .contentType(APPLICATION_JSON)
+                    .header(HEADER_USER_ID, "testUserId")
+                    .content(objectMapper.writeValueAsString(eventsList)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HEADER_BATCH_ID))
+                .andReturn();
+        List<UUID> runUuids = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() { });
+        assertThat(runUuids).hasSize(2).doesNotHaveDuplicates();
+
+        // every run of the batch is done
+        for (int i = 0; i < runUuids.size(); i++) {
+            Message<byte[]> messageSwitch = output.receive(1000 * 10, dsResultDestination);
+            assertThat(runUuids).contains(UUID.fromString((String) messageSwitch.getHeaders().get(HEADER_RESULT_UUID)));
+        }
+        for (UUID runUuid : runUuids) {
+            result = mockMvc.perform(
+                            get("/v1/results/{resultUuid}/status", runUuid))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            DynamicSimulationStatus status = objectMapper.readValue(result.getResponse().getContentAsString(), DynamicSimulationStatus.class);
+            assertThat(status).isSameAs(DynamicSimulationStatus.CONVERGED);
+        }
+    }
+
     // --- BEGIN Test cancelling a running computation ---//
     private void mockSendRunMessage(Supplier<CompletableFuture<?>> runAsyncMock) {
         // In test environment, the test binder calls consumers directly in the caller thread, i.e. the controller thread.
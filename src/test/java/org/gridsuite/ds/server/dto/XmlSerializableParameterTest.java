@@ -8,6 +8,8 @@
 package org.gridsuite.ds.server.dto;
 
 import com.powsybl.commons.exceptions.UncheckedSaxException;
+import com.powsybl.dynawo.parameters.ParametersSet;
+import com.powsybl.dynawo.xml.ParametersXml;
 import org.gridsuite.ds.server.DynamicSimulationApplication;
 import org.gridsuite.ds.server.dto.network.NetworkInfos;
 import org.gridsuite.ds.server.dto.solver.IdaSolverInfos;
@@ -30,6 +32,8 @@ import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
@@ -37,6 +41,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import static com.powsybl.commons.test.ComparisonUtils.assertXmlEquals;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.gridsuite.ds.server.dto.network.NetworkInfos.NETWORK_ID;
 import static org.gridsuite.ds.server.utils.Utils.RESOURCE_PATH_DELIMITER;
 
 /**
@@ -105,4 +111,29 @@ public class XmlSerializableParameterTest {
         // compare two file
         validate(DATA_XML + RESOURCE_PATH_DELIMITER + PAR_SCHEMA, DATA_XML + RESOURCE_PATH_DELIMITER + OUTPUT + RESOURCE_PATH_DELIMITER + EXPECTED_NETWORK, exportedNetworkFile);
     }
+
+    private static ParametersSet toParametersSetViaXml(String parametersSetId, XmlSerializableParameter object) throws XMLStreamException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        XmlSerializableParameter.writeParameter(os, XmlSerializableParameter.PARAMETER_SET, object);
+        return ParametersXml.load(new ByteArrayInputStream(os.toByteArray()), parametersSetId);
+    }
+
+    private static void assertSameParametersSet(ParametersSet expected, ParametersSet actual) {
+        assertThat(actual.getId()).isEqualTo(expected.getId());
+        assertThat(actual.getParameters()).isEqualTo(expected.getParameters());
+    }
+
+    @Test
+    public void testToParametersSetSameAsXml() throws XMLStreamException {
+        IdaSolverInfos idaSolver = ParameterUtils.getDefaultIdaSolverValues();
+        SimSolverInfos simSolver = ParameterUtils.getDefaultSimSolverValues();
+        NetworkInfos network = ParameterUtils.getDefaultNetworkValues();
+
+        assertSameParametersSet(toParametersSetViaXml(idaSolver.getType().name(), idaSolver),
+                XmlSerializableParameter.toParametersSet(idaSolver.getType().name(), idaSolver));
+        assertSameParametersSet(toParametersSetViaXml(simSolver.getType().name(), simSolver),
+                XmlSerializableParameter.toParametersSet(simSolver.getType().name(), simSolver));
+        assertSameParametersSet(toParametersSetViaXml(NETWORK_ID, network),
+                XmlSerializableParameter.toParametersSet(NETWORK_ID, network));
+    }
 }
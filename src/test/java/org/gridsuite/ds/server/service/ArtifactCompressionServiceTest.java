@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service;
+
+import org.gridsuite.ds.server.utils.ArtifactCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+class ArtifactCompressionServiceTest {
+
+    private static byte[] readContent(Path file, ArtifactCodec codec) throws IOException {
+        try (InputStream is = codec.isGzipFormat() ? new GZIPInputStream(Files.newInputStream(file)) : Files.newInputStream(file)) {
+            return is.readAllBytes();
+        }
+    }
+
+    private static byte[] createContent(int length) {
+        // half random, half repeated, to have compressible blocks
+        byte[] content = new byte[length];
+        Random random = new Random(0);
+        for (int i = 0; i < length; i++) {
+            content[i] = i % 2 == 0 ? (byte) random.nextInt() : (byte) (i % 7);
+        }
+        return content;
+    }
+
+    @ParameterizedTest
+    @EnumSource(ArtifactCodec.class)
+    void testCompressDecodedByGzipReader(ArtifactCodec codec, @TempDir Path tempDir) throws IOException {
+        ArtifactCompressionService artifactCompressionService = new ArtifactCompressionService(codec, 1, DataSize.ofKilobytes(1), 3);
+        try {
+            // several blocks, the last one being partial
+            byte[] content = createContent(10_500);
+            Path source = Files.write(tempDir.resolve("outputState.dmp"), content);
+            Path target = tempDir.resolve("outputState.dmp.gz");
+
+            artifactCompressionService.compress(source, target);
+
+            assertThat(readContent(target, codec)).isEqualTo(content);
+        } finally {
+            artifactCompressionService.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelCompressEmptyContent(@TempDir Path tempDir) throws IOException {
+        ArtifactCompressionService artifactCompressionService = new ArtifactCompressionService(ArtifactCodec.PARALLEL_GZIP, 6, DataSize.ofKilobytes(1), 2);
+        try {
+            Path source = Files.write(tempDir.resolve("outputState.dmp"), new byte[0]);
+            Path target = tempDir.resolve("outputState.dmp.gz");
+
+            artifactCompressionService.compress(source, target);
+
+            assertThat(readContent(target, ArtifactCodec.PARALLEL_GZIP)).isEmpty();
+        } finally {
+            artifactCompressionService.shutdown();
+        }
+    }
+}
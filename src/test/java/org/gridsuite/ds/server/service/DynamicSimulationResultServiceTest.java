@@ -10,12 +10,16 @@ package org.gridsuite.ds.server.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.powsybl.timeseries.StoredDoubleTimeSeries;
 import com.powsybl.timeseries.StringTimeSeries;
+import org.gridsuite.computation.error.ComputationException;
 import org.gridsuite.computation.service.UuidGeneratorService;
 import org.gridsuite.ds.server.dto.DynamicSimulationStatus;
 import org.gridsuite.ds.server.dto.timeseries.TimeSeriesGroupInfos;
 import org.gridsuite.ds.server.entities.ResultEntity;
+import org.gridsuite.ds.server.repository.ResultArtifactType;
 import org.gridsuite.ds.server.repository.ResultRepository;
+import org.gridsuite.ds.server.service.ResultArtifactService.ResultArtifact;
 import org.gridsuite.ds.server.service.client.timeseries.TimeSeriesClient;
+import org.gridsuite.ds.server.utils.ArtifactCodec;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -24,16 +28,25 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.Resource;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -41,6 +54,7 @@ import static org.mockito.Mockito.when;
  */
 @RunWith(SpringRunner.class)
 @SpringBootTest
+@TestPropertySource(properties = "dynamic-simulation.result.artifact.chunk-size=1KB")
 public class DynamicSimulationResultServiceTest {
 
     static final Logger LOGGER = LoggerFactory.getLogger(DynamicSimulationResultServiceTest.class);
@@ -80,6 +94,9 @@ public class DynamicSimulationResultServiceTest {
         LOGGER.info("Expected result status = " + DynamicSimulationStatus.CONVERGED);
         LOGGER.info("Actual inserted result status = " + insertedResultEntityOpt.get().getStatus());
         assertThat(insertedResultEntityOpt.get().getStatus()).isSameAs(DynamicSimulationStatus.CONVERGED);
+        // a result with an assigned id is inserted without being looked up first, then updated once loaded
+        assertThat(new ResultEntity(uuidGeneratorService.generate(), null, null, DynamicSimulationStatus.RUNNING, null, null, null, null).isNew()).isTrue();
+        assertThat(insertedResultEntityOpt.get().isNew()).isFalse();
 
         // --- get status of the entity -- //
         DynamicSimulationStatus status = dynamicSimulationResultService.findStatus(entityUuid);
@@ -160,4 +177,124 @@ public class DynamicSimulationResultServiceTest {
         dynamicSimulationResultService.deleteAll();
         assertThat(resultRepository.findAll()).isEmpty();
     }
+
+    @Test
+    public void testStreamArtifacts() throws IOException {
+        UUID entityUuid = uuidGeneratorService.generate();
+        dynamicSimulationResultService.insertStatus(List.of(entityUuid), DynamicSimulationStatus.RUNNING);
+
+        // no content yet
+        assertThat(dynamicSimulationResultService.getArtifact(entityUuid, ResultArtifactType.OUTPUT_STATE)).isNull();
+        UUID unknownUuid = uuidGeneratorService.generate();
+        assertThatThrownBy(() -> dynamicSimulationResultService.getArtifact(unknownUuid, ResultArtifactType.OUTPUT_STATE))
+                .isInstanceOf(ComputationException.class);
+
+        // several chunks of 1KB
+        byte[] outputState = new byte[5000];
+        for (int i = 0; i < outputState.length; i++) {
+            outputState[i] = (byte) i;
+        }
+        byte[] dynamicModel = {1, 2, 3};
+        dynamicSimulationResultService.updateResult(entityUuid, null, null, DynamicSimulationStatus.CONVERGED,
+                outputState, null, dynamicModel);
+
+        ResultArtifact outputStateArtifact = dynamicSimulationResultService.getArtifact(entityUuid, ResultArtifactType.OUTPUT_STATE);
+        assertThat(outputStateArtifact.codec()).isEqualTo(ArtifactCodec.GZIP);
+        Resource outputStateResource = outputStateArtifact.resource();
+        assertThat(outputStateResource.contentLength()).isEqualTo(outputState.length);
+        try (InputStream is = outputStateResource.getInputStream()) {
+            assertThat(is.readAllBytes()).isEqualTo(outputState);
+        }
+
+        // range read, skipping does not read the skipped chunks
+        try (InputStream is = outputStateResource.getInputStream()) {
+            assertThat(is.skip(2500)).isEqualTo(2500);
+            assertThat(is.readNBytes(1000)).isEqualTo(Arrays.copyOfRange(outputState, 2500, 3500));
+            assertThat(is.skip(10000)).isEqualTo(1500);
+            assertThat(is.read()).isEqualTo(-1);
+        }
+
+        Resource dynamicModelResource = dynamicSimulationResultService.getArtifact(entityUuid, ResultArtifactType.DYNAMIC_MODEL).resource();
+        try (InputStream is = dynamicModelResource.getInputStream()) {
+            assertThat(is.readAllBytes()).isEqualTo(dynamicModel);
+        }
+        assertThat(dynamicSimulationResultService.getArtifact(entityUuid, ResultArtifactType.PARAMETERS)).isNull();
+    }
+
+    @Test
+    public void testArtifactDeletedWhileStreamed() throws IOException {
+        UUID entityUuid = uuidGeneratorService.generate();
+        dynamicSimulationResultService.insertStatus(List.of(entityUuid), DynamicSimulationStatus.RUNNING);
+        // several chunks of 1KB
+        byte[] outputState = new byte[5000];
+        dynamicSimulationResultService.updateResult(entityUuid, null, null, DynamicSimulationStatus.CONVERGED,
+                outputState, null, null);
+
+        Resource outputStateResource = dynamicSimulationResultService.getArtifact(entityUuid, ResultArtifactType.OUTPUT_STATE).resource();
+        try (InputStream is = outputStateResource.getInputStream()) {
+            assertThat(is.readNBytes(1000)).hasSize(1000);
+
+            // the length is already sent, the rest of the content must not be taken as the end of the content
+            dynamicSimulationResultService.delete(entityUuid);
+            assertThatThrownBy(is::readAllBytes).isInstanceOf(IOException.class);
+        }
+    }
+
+    @Test
+    public void testArtifactWrittenOnce() {
+        UUID entityUuid = uuidGeneratorService.generate();
+        dynamicSimulationResultService.insertStatus(List.of(entityUuid), DynamicSimulationStatus.RUNNING);
+        byte[] dynamicModel = {1, 2, 3};
+        dynamicSimulationResultService.updateResult(entityUuid, null, null, DynamicSimulationStatus.CONVERGED,
+                null, null, dynamicModel);
+
+        // a content being read by chunks is never overwritten
+        byte[] otherDynamicModel = {4, 5, 6};
+        assertThatThrownBy(() -> dynamicSimulationResultService.updateResult(entityUuid, null, null, DynamicSimulationStatus.CONVERGED,
+                null, null, otherDynamicModel)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testSentTimeSeriesDeletedWhenSaveFails() {
+        UUID entityUuid = uuidGeneratorService.generate();
+        dynamicSimulationResultService.insertStatus(List.of(entityUuid), DynamicSimulationStatus.RUNNING);
+        byte[] dynamicModel = {1, 2, 3};
+        dynamicSimulationResultService.updateResult(entityUuid, null, null, DynamicSimulationStatus.CONVERGED,
+                null, null, dynamicModel);
+
+        // the result fails to be saved once the time-series and the timeline are sent
+        UUID timeSeriesUuid = UUID.randomUUID();
+        UUID timeLineUuid = UUID.randomUUID();
+        when(timeSeriesClient.sendTimeSeries(anyList())).thenReturn(new TimeSeriesGroupInfos(timeSeriesUuid), new TimeSeriesGroupInfos(timeLineUuid));
+        assertThatThrownBy(() -> dynamicSimulationResultService.updateResult(entityUuid,
+                List.of(mock(StoredDoubleTimeSeries.class)), List.of(mock(StringTimeSeries.class)), DynamicSimulationStatus.CONVERGED,
+                null, null, new byte[] {4, 5, 6})).isInstanceOf(IllegalStateException.class);
+
+        // they are no longer referenced, the previous state of the result is kept
+        verify(timeSeriesClient).deleteTimeSeriesGroup(timeSeriesUuid);
+        verify(timeSeriesClient).deleteTimeSeriesGroup(timeLineUuid);
+        assertThat(resultRepository.findById(entityUuid).get().getTimeSeriesId()).isNull();
+    }
+
+    @Test
+    public void testOutputStateCodecRecorded() throws IOException {
+        UUID entityUuid = uuidGeneratorService.generate();
+        dynamicSimulationResultService.insertStatus(List.of(entityUuid), DynamicSimulationStatus.RUNNING);
+
+        byte[] outputState = {1, 2, 3, 4};
+        Path outputStateFile = Files.createTempFile("outputState", ".dmp");
+        try {
+            Files.write(outputStateFile, outputState);
+            dynamicSimulationResultService.saveResult(entityUuid, null, null, DynamicSimulationStatus.CONVERGED,
+                    outputStateFile, ArtifactCodec.NONE, null, null);
+        } finally {
+            Files.delete(outputStateFile);
+        }
+
+        ResultArtifact outputStateArtifact = dynamicSimulationResultService.getArtifact(entityUuid, ResultArtifactType.OUTPUT_STATE);
+        assertThat(outputStateArtifact.codec()).isEqualTo(ArtifactCodec.NONE);
+        try (InputStream is = outputStateArtifact.resource().getInputStream()) {
+            assertThat(is.readAllBytes()).isEqualTo(outputState);
+        }
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.dynamicsimulation.DynamicSimulationParameters;
+import com.powsybl.dynamicsimulation.DynamicSimulationResult;
+import com.powsybl.dynamicsimulation.DynamicSimulationResultImpl;
+import com.powsybl.dynawo.DumpFileParameters;
+import com.powsybl.dynawo.DynawoSimulationParameters;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.network.store.client.NetworkStoreService;
+import com.powsybl.timeseries.DoubleTimeSeries;
+import org.gridsuite.computation.s3.ComputationS3Service;
+import org.gridsuite.computation.service.ExecutionService;
+import org.gridsuite.computation.service.NotificationService;
+import org.gridsuite.computation.service.ReportService;
+import org.gridsuite.ds.server.PropertyServerNameProvider;
+import org.gridsuite.ds.server.service.cache.DynamicMappingCacheService;
+import org.gridsuite.ds.server.service.cache.NetworkSnapshotCacheService;
+import org.gridsuite.ds.server.service.cache.PreparedContextCacheService;
+import org.gridsuite.ds.server.service.contexts.DynamicSimulationResultContext;
+import org.gridsuite.ds.server.service.contexts.DynamicSimulationRunContext;
+import org.gridsuite.ds.server.service.parameters.ParametersService;
+import org.gridsuite.ds.server.utils.ArtifactCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+class DynamicSimulationWorkerServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path localDir;
+
+    private DynamicSimulationResultService resultService;
+
+    private DynamicSimulationWorkerService dynamicSimulationWorkerService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        localDir = Files.createDirectory(tempDir.resolve("local"));
+        ComputationManager computationManager = mock(ComputationManager.class);
+        when(computationManager.getLocalDir()).thenReturn(localDir);
+        ExecutionService executionService = mock(ExecutionService.class);
+        when(executionService.getComputationManager()).thenReturn(computationManager);
+        // the compressed file is created empty by the worker
+        ArtifactCompressionService artifactCompressionService = mock(ArtifactCompressionService.class);
+        when(artifactCompressionService.getCodec()).thenReturn(ArtifactCodec.GZIP);
+        resultService = mock(DynamicSimulationResultService.class);
+
+        dynamicSimulationWorkerService = new DynamicSimulationWorkerService(mock(NetworkStoreService.class), mock(NotificationService.class),
+                mock(ReportService.class), executionService, mock(DynamicSimulationObserver.class), new ObjectMapper(), resultService,
+                mock(ComputationS3Service.class), mock(DynamicMappingCacheService.class), mock(ParametersService.class), artifactCompressionService,
+                mock(SimulationScheduler.class), mock(NetworkPreloadingService.class), mock(NetworkSnapshotCacheService.class),
+                mock(PreparedContextCacheService.class), mock(SimulationSweepService.class), mock(PropertyServerNameProvider.class), 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dynamicSimulationWorkerService.shutdown();
+    }
+
+    @Test
+    void testSentTimeSeriesDeletedWhenStageFails() throws IOException {
+        Path dumpDir = Files.createDirectory(tempDir.resolve("dump"));
+        Files.writeString(dumpDir.resolve("outputState.dmp"), "dump");
+        DynawoSimulationParameters dynawoSimulationParameters = new DynawoSimulationParameters();
+        dynawoSimulationParameters.setDumpFileParameters(DumpFileParameters.createExportDumpFileParameters(dumpDir));
+        DynamicSimulationParameters t0Parameters = new DynamicSimulationParameters();
+        t0Parameters.addExtension(DynawoSimulationParameters.class, dynawoSimulationParameters);
+        DynamicSimulationRunContext runContext = DynamicSimulationRunContext.builder()
+                .networkUuid(UUID.randomUUID())
+                .receiver("receiver")
+                .userId("userId")
+                .build();
+        runContext.setT0DynamicSimulationParameters(t0Parameters);
+        UUID resultUuid = UUID.randomUUID();
+
+        // the curves are sent, not the empty timeline
+        UUID timeSeriesUuid = UUID.randomUUID();
+        when(resultService.sendTimeSeries(anyList())).thenAnswer(invocation -> {
+            if (invocation.<List<?>>getArgument(0).isEmpty()) {
+                throw new IllegalStateException("Time-series server unavailable");
+            }
+            return timeSeriesUuid;
+        });
+        DynamicSimulationResult result = new DynamicSimulationResultImpl(DynamicSimulationResult.Status.SUCCESS, "",
+                Map.of("curve", mock(DoubleTimeSeries.class)), Map.of(), List.of());
+
+        assertThatThrownBy(() -> dynamicSimulationWorkerService.saveResult(mock(Network.class), new DynamicSimulationResultContext(resultUuid, runContext), result))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Time-series server unavailable");
+
+        // the sent curves are not referenced by the result, which is not saved
+        verify(resultService).deleteTimeSeries(timeSeriesUuid, null);
+        verify(resultService, never()).saveResult(any(), any(), any(), any(), any(), any(), any(), any());
+
+        // the compressed dump file is deleted, not the dump file itself
+        try (Stream<Path> files = Files.list(localDir)) {
+            assertThat(files).isEmpty();
+        }
+        assertThat(dumpDir.resolve("outputState.dmp")).exists();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.network.store.client.NetworkStoreService;
+import com.powsybl.network.store.client.PreloadingStrategy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gridsuite.ds.server.service.cache.NetworkSizeRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.gridsuite.ds.server.service.NetworkPreloadingService.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+class NetworkPreloadingServiceTest {
+
+    private static final UUID SMALL_NETWORK_UUID = UUID.randomUUID();
+    private static final UUID MEDIUM_NETWORK_UUID = UUID.randomUUID();
+    private static final UUID LARGE_NETWORK_UUID = UUID.randomUUID();
+    private static final UUID UNKNOWN_NETWORK_UUID = UUID.randomUUID();
+
+    // local stand-in of the network store
+    private NetworkStoreService networkStoreService;
+
+    private NetworkSizeRegistry networkSizeRegistry;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        networkStoreService = mock(NetworkStoreService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        networkSizeRegistry = new NetworkSizeRegistry(meterRegistry, Duration.ofMinutes(10), 10);
+        networkSizeRegistry.recordEquipmentCount(SMALL_NETWORK_UUID, 100);
+        networkSizeRegistry.recordEquipmentCount(MEDIUM_NETWORK_UUID, 10_000);
+        networkSizeRegistry.recordEquipmentCount(LARGE_NETWORK_UUID, 1_000_000);
+    }
+
+    private NetworkPreloadingService createNetworkPreloadingService(boolean adaptive) {
+        return new NetworkPreloadingService(networkStoreService, networkSizeRegistry, meterRegistry, adaptive,
+                PreloadingStrategy.COLLECTION, 5000, 200_000);
+    }
+
+    @Test
+    void testAdaptivePreloadingStrategy() {
+        NetworkPreloadingService networkPreloadingService = createNetworkPreloadingService(true);
+
+        assertThat(networkPreloadingService.getPreloadingStrategy(SMALL_NETWORK_UUID)).isEqualTo(PreloadingStrategy.ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW);
+        assertThat(networkPreloadingService.getPreloadingStrategy(MEDIUM_NETWORK_UUID)).isEqualTo(PreloadingStrategy.COLLECTION);
+        assertThat(networkPreloadingService.getPreloadingStrategy(LARGE_NETWORK_UUID)).isEqualTo(PreloadingStrategy.NONE);
+        // size not recorded yet, configured strategy
+        assertThat(networkPreloadingService.getPreloadingStrategy(UNKNOWN_NETWORK_UUID)).isEqualTo(PreloadingStrategy.COLLECTION);
+    }
+
+    @Test
+    void testFixedPreloadingStrategy() {
+        NetworkPreloadingService networkPreloadingService = createNetworkPreloadingService(false);
+
+        assertThat(networkPreloadingService.getPreloadingStrategy(SMALL_NETWORK_UUID)).isEqualTo(PreloadingStrategy.COLLECTION);
+        assertThat(networkPreloadingService.getPreloadingStrategy(LARGE_NETWORK_UUID)).isEqualTo(PreloadingStrategy.COLLECTION);
+    }
+
+    @Test
+    void testLargeNetworkLoadedLazily() {
+        NetworkPreloadingService networkPreloadingService = createNetworkPreloadingService(true);
+        Network network = mock(Network.class);
+        when(networkStoreService.getNetwork(LARGE_NETWORK_UUID, PreloadingStrategy.NONE)).thenReturn(network);
+
+        assertThat(networkPreloadingService.getNetwork(LARGE_NETWORK_UUID)).isSameAs(network);
+        assertThat(networkPreloadingService.isLoadedLazily(network)).isTrue();
+        // not loaded by this service
+        assertThat(networkPreloadingService.isLoadedLazily(mock(Network.class))).isFalse();
+    }
+
+    @Test
+    void testGetNetworkRecorded() {
+        NetworkPreloadingService networkPreloadingService = createNetworkPreloadingService(true);
+        Network network = mock(Network.class);
+        when(networkStoreService.getNetwork(SMALL_NETWORK_UUID, PreloadingStrategy.ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW)).thenReturn(network);
+
+        assertThat(networkPreloadingService.getNetwork(SMALL_NETWORK_UUID)).isSameAs(network);
+
+        // the choice is recorded by strategy, the load time once the network is read
+        String strategy = PreloadingStrategy.ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW.name();
+        assertThat(meterRegistry.get(PRELOADING_METER_NAME).tag(STRATEGY_TAG_NAME, strategy).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find(LOAD_METER_NAME).timer()).isNull();
+
+        networkPreloadingService.recordLoad(network);
+        assertThat(meterRegistry.get(LOAD_METER_NAME).tag(STRATEGY_TAG_NAME, strategy).timer().count()).isEqualTo(1);
+
+        // bulk loaded
+        assertThat(networkPreloadingService.isLoadedLazily(network)).isFalse();
+
+        // recorded once
+        networkPreloadingService.recordLoad(network);
+        networkPreloadingService.recordLoad(mock(Network.class));
+        assertThat(meterRegistry.get(LOAD_METER_NAME).tag(STRATEGY_TAG_NAME, strategy).timer().count()).isEqualTo(1);
+    }
+}
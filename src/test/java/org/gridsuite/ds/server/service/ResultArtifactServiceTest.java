@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service;
+
+import org.gridsuite.ds.server.repository.ResultArtifactRepository;
+import org.gridsuite.ds.server.repository.ResultArtifactRepository.ArtifactInfos;
+import org.gridsuite.ds.server.repository.ResultArtifactType;
+import org.gridsuite.ds.server.service.ResultArtifactService.ArtifactContent;
+import org.gridsuite.ds.server.utils.ArtifactCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.io.Resource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+class ResultArtifactServiceTest {
+
+    private static final UUID RESULT_UUID = UUID.randomUUID();
+    private static final String BUCKET = "ws-bucket";
+
+    private ResultArtifactRepository resultArtifactRepository;
+
+    private S3Client s3Client;
+
+    private ResultArtifactService resultArtifactService;
+
+    @BeforeEach
+    void setUp() {
+        resultArtifactRepository = mock(ResultArtifactRepository.class);
+        s3Client = mock(S3Client.class);
+        @SuppressWarnings("unchecked")
+        ObjectProvider<S3Client> s3ClientProvider = mock(ObjectProvider.class);
+        when(s3ClientProvider.getIfAvailable()).thenReturn(s3Client);
+        resultArtifactService = new ResultArtifactService(resultArtifactRepository, s3ClientProvider, true, DataSize.ofBytes(100), "results", DataSize.ofKilobytes(10), BUCKET);
+    }
+
+    private static String sha256(byte[] content) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+
+    @Test
+    void testSmallContentKeptInDb(@TempDir Path tempDir) throws IOException {
+        Path file = Files.write(tempDir.resolve("outputState.dmp.gz"), new byte[100]);
+        List<ArtifactContent> contents = List.of(
+                ArtifactContent.of(ResultArtifactType.OUTPUT_STATE, file, ArtifactCodec.PARALLEL_GZIP),
+                ArtifactContent.of(ResultArtifactType.PARAMETERS, new byte[10], ArtifactCodec.GZIP));
+        Map<ResultArtifactType, ArtifactInfos> offloadedArtifacts = resultArtifactService.offload(RESULT_UUID, contents);
+        assertThat(offloadedArtifacts).isEmpty();
+        resultArtifactService.save(RESULT_UUID, contents, offloadedArtifacts);
+
+        verify(resultArtifactRepository).write(RESULT_UUID, ResultArtifactType.OUTPUT_STATE, file);
+        verify(resultArtifactRepository).saveInfos(RESULT_UUID, ResultArtifactType.OUTPUT_STATE,
+                new ArtifactInfos(null, 100, null, ArtifactCodec.PARALLEL_GZIP));
+        verify(resultArtifactRepository).write(eq(RESULT_UUID), eq(ResultArtifactType.PARAMETERS), any(InputStream.class), eq(10L));
+        verify(resultArtifactRepository).saveInfos(RESULT_UUID, ResultArtifactType.PARAMETERS,
+                new ArtifactInfos(null, 10, null, ArtifactCodec.GZIP));
+        verifyNoInteractions(s3Client);
+    }
+
+    @Test
+    void testLargeContentOffloaded(@TempDir Path tempDir) throws Exception {
+        byte[] content = new byte[1000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        Path file = Files.write(tempDir.resolve("outputState.dmp.gz"), content);
+        List<ArtifactContent> contents = List.of(ArtifactContent.of(ResultArtifactType.OUTPUT_STATE, file, ArtifactCodec.GZIP));
+        Map<ResultArtifactType, ArtifactInfos> offloadedArtifacts = resultArtifactService.offload(RESULT_UUID, contents);
+
+        // uploaded without any access to the db, i.e. out of the transaction recording the content
+        String s3Key = "results/" + RESULT_UUID + "/output_state.gz";
+        ArgumentCaptor<PutObjectRequest> putObjectRequestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(putObjectRequestCaptor.capture(), any(RequestBody.class));
+        assertThat(putObjectRequestCaptor.getValue().bucket()).isEqualTo(BUCKET);
+        assertThat(putObjectRequestCaptor.getValue().key()).isEqualTo(s3Key);
+        assertThat(putObjectRequestCaptor.getValue().contentLength()).isEqualTo(content.length);
+        verifyNoInteractions(resultArtifactRepository);
+
+        resultArtifactService.save(RESULT_UUID, contents, offloadedArtifacts);
+        verify(resultArtifactRepository).saveInfos(RESULT_UUID, ResultArtifactType.OUTPUT_STATE,
+                new ArtifactInfos(s3Key, content.length, sha256(content), ArtifactCodec.GZIP));
+        verify(resultArtifactRepository, never()).write(any(), any(), any(Path.class));
+    }
+
+    @Test
+    void testLargeFileOffloadedByParts(@TempDir Path tempDir) throws Exception {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<S3Client> s3ClientProvider = mock(ObjectProvider.class);
+        when(s3ClientProvider.getIfAvailable()).thenReturn(s3Client);
+        ResultArtifactService partsArtifactService = new ResultArtifactService(resultArtifactRepository, s3ClientProvider, true,
+                DataSize.ofBytes(100), "results", DataSize.ofBytes(400), BUCKET);
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("uploadId").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenReturn(UploadPartResponse.builder().eTag("eTag").build());
+
+        byte[] content = new byte[1000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        Path file = Files.write(tempDir.resolve("outputState.dmp"), content);
+        List<ArtifactContent> contents = List.of(ArtifactContent.of(ResultArtifactType.OUTPUT_STATE, file, ArtifactCodec.NONE));
+        partsArtifactService.save(RESULT_UUID, contents, partsArtifactService.offload(RESULT_UUID, contents));
+
+        // 2 full parts then the remaining bytes, streamed from the mapped file
+        ArgumentCaptor<UploadPartRequest> uploadPartRequestCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        ArgumentCaptor<RequestBody> requestBodyCaptor = ArgumentCaptor.forClass(RequestBody.class);
+        verify(s3Client, times(3)).uploadPart(uploadPartRequestCaptor.capture(), requestBodyCaptor.capture());
+        assertThat(uploadPartRequestCaptor.getAllValues()).extracting(UploadPartRequest::partNumber).containsExactly(1, 2, 3);
+        assertThat(uploadPartRequestCaptor.getAllValues()).extracting(UploadPartRequest::contentLength).containsExactly(400L, 400L, 200L);
+        try (InputStream is = requestBodyCaptor.getAllValues().get(2).contentStreamProvider().newStream()) {
+            assertThat(is.readAllBytes()).isEqualTo(Arrays.copyOfRange(content, 800, 1000));
+        }
+
+        String s3Key = "results/" + RESULT_UUID + "/output_state";
+        verify(s3Client).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verify(resultArtifactRepository).saveInfos(RESULT_UUID, ResultArtifactType.OUTPUT_STATE,
+                new ArtifactInfos(s3Key, content.length, sha256(content), ArtifactCodec.NONE));
+    }
+
+    @Test
+    void testReadOffloadedContentFromOffset() throws IOException {
+        String s3Key = "results/" + RESULT_UUID + "/output_state.gz";
+        when(resultArtifactRepository.findInfos(RESULT_UUID, ResultArtifactType.OUTPUT_STATE))
+                .thenReturn(Optional.of(new ArtifactInfos(s3Key, 1000, "checksum", ArtifactCodec.PARALLEL_GZIP)));
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(new ResponseInputStream<>(
+                GetObjectResponse.builder().contentLength(500L).build(),
+                AbortableInputStream.create(new ByteArrayInputStream(new byte[500]))));
+
+        ResultArtifactService.ResultArtifact artifact = resultArtifactService.getArtifact(RESULT_UUID, ResultArtifactType.OUTPUT_STATE);
+        assertThat(artifact.codec()).isEqualTo(ArtifactCodec.PARALLEL_GZIP);
+        Resource resource = artifact.resource();
+        assertThat(resource.contentLength()).isEqualTo(1000);
+
+        // nothing requested until the first read, then only from the reached offset
+        try (InputStream is = resource.getInputStream()) {
+            assertThat(is.skip(500)).isEqualTo(500);
+            verifyNoInteractions(s3Client);
+            assertThat(is.readAllBytes()).hasSize(500);
+        }
+        ArgumentCaptor<GetObjectRequest> getObjectRequestCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client).getObject(getObjectRequestCaptor.capture());
+        assertThat(getObjectRequestCaptor.getValue().key()).isEqualTo(s3Key);
+        assertThat(getObjectRequestCaptor.getValue().range()).isEqualTo("bytes=500-");
+    }
+
+    @Test
+    void testUploadedContentsDeletedOnFailure(@TempDir Path tempDir) throws IOException {
+        Path file = Files.write(tempDir.resolve("outputState.dmp.gz"), new byte[1000]);
+        byte[] dynamicModel = new byte[1000];
+        // the second upload fails
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenReturn(PutObjectResponse.builder().build())
+                .thenThrow(SdkClientException.create("upload failed"));
+        List<ArtifactContent> contents = List.of(
+                ArtifactContent.of(ResultArtifactType.OUTPUT_STATE, file, ArtifactCodec.GZIP),
+                ArtifactContent.of(ResultArtifactType.DYNAMIC_MODEL, dynamicModel, ArtifactCodec.GZIP));
+
+        assertThatThrownBy(() -> resultArtifactService.offload(RESULT_UUID, contents)).isInstanceOf(SdkClientException.class);
+
+        // the first content is not orphaned
+        ArgumentCaptor<DeleteObjectsRequest> deleteObjectsRequestCaptor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(s3Client).deleteObjects(deleteObjectsRequestCaptor.capture());
+        assertThat(deleteObjectsRequestCaptor.getValue().delete().objects()).extracting(ObjectIdentifier::key)
+                .containsExactly("results/" + RESULT_UUID + "/output_state.gz");
+        verifyNoInteractions(resultArtifactRepository);
+    }
+
+    @Test
+    void testReadOffloadedContentWithoutS3Client() {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<S3Client> s3ClientProvider = mock(ObjectProvider.class);
+        ResultArtifactService disabledArtifactService = new ResultArtifactService(resultArtifactRepository, s3ClientProvider, false,
+                DataSize.ofBytes(100), "results", DataSize.ofKilobytes(10), BUCKET);
+        when(resultArtifactRepository.findInfos(RESULT_UUID, ResultArtifactType.OUTPUT_STATE))
+                .thenReturn(Optional.of(new ArtifactInfos("results/" + RESULT_UUID + "/output_state.gz", 1000, "checksum", ArtifactCodec.GZIP)));
+
+        assertThatThrownBy(() -> disabledArtifactService.getArtifact(RESULT_UUID, ResultArtifactType.OUTPUT_STATE))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("output_state.gz");
+    }
+
+    @Test
+    void testDeleteOffloadedAfterCommit() {
+        when(resultArtifactRepository.findOffloadedKeys(RESULT_UUID)).thenReturn(List.of("results/" + RESULT_UUID + "/output_state.gz"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            resultArtifactService.deleteOffloaded(RESULT_UUID);
+            // the deletion of the result is not committed yet
+            verifyNoInteractions(s3Client);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(s3Client).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+
+    @Test
+    void testDeleteOffloadedByBatches() {
+        List<String> s3Keys = IntStream.range(0, 1500).mapToObj(i -> "results/" + i).toList();
+        when(resultArtifactRepository.findOffloadedKeys(null)).thenReturn(s3Keys);
+
+        resultArtifactService.deleteOffloaded(null);
+
+        verify(s3Client, times(2)).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+}
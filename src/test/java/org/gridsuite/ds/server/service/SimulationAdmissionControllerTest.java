@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service;
+
+import org.gridsuite.ds.server.dto.RunPriority;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+class SimulationAdmissionControllerTest {
+
+    private static final long MB = DataSize.ofMegabytes(1).toBytes();
+
+    @Test
+    void testAdmissionWithinBudget() throws Exception {
+        SimulationAdmissionController admissionController = new SimulationAdmissionController(DataSize.ofMegabytes(1000), 0);
+
+        SimulationAdmissionController.Admission admission1 = admissionController.admit(600 * MB, RunPriority.NORMAL);
+        assertThat(admissionController.getAvailableBudget()).isEqualTo(400);
+
+        // over the remaining budget, waits until the first run is done
+        CompletableFuture<SimulationAdmissionController.Admission> admission2 = CompletableFuture.supplyAsync(() -> {
+            try {
+                return admissionController.admit(600 * MB, RunPriority.NORMAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThatThrownBy(() -> admission2.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+        admission1.close();
+        // closing twice gives back the memory only once
+        admission1.close();
+        admission2.get(5, TimeUnit.SECONDS).close();
+        assertThat(admissionController.getAvailableBudget()).isEqualTo(1000);
+    }
+
+    @Test
+    void testRunOverBudgetAdmittedAlone() throws Exception {
+        SimulationAdmissionController admissionController = new SimulationAdmissionController(DataSize.ofMegabytes(1000), 0);
+
+        try (SimulationAdmissionController.Admission admission = admissionController.admit(5000 * MB, RunPriority.NORMAL)) {
+            assertThat(admissionController.getAvailableBudget()).isZero();
+        }
+        assertThat(admissionController.getAvailableBudget()).isEqualTo(1000);
+    }
+
+    @Test
+    void testTryAdmitTimeout() throws Exception {
+        SimulationAdmissionController admissionController = new SimulationAdmissionController(DataSize.ofMegabytes(1000), 0);
+
+        try (SimulationAdmissionController.Admission admission = admissionController.tryAdmit(600 * MB, RunPriority.NORMAL, Duration.ofMillis(100))) {
+            assertThat(admission).isNotNull();
+            // over the remaining budget, not admitted after the timeout
+            assertThat(admissionController.tryAdmit(600 * MB, RunPriority.NORMAL, Duration.ofMillis(100))).isNull();
+            assertThat(admissionController.getAvailableBudget()).isEqualTo(400);
+        }
+    }
+
+    @Test
+    void testExtendAdmission() throws Exception {
+        SimulationAdmissionController admissionController = new SimulationAdmissionController(DataSize.ofMegabytes(1000), 0);
+
+        try (SimulationAdmissionController.Admission admission = admissionController.admit(300 * MB, RunPriority.NORMAL)) {
+            // extended within the budget
+            assertThat(admission.extend(500 * MB, Duration.ofMillis(100))).isTrue();
+            assertThat(admission.getAdmittedMemory()).isEqualTo(500 * MB);
+            assertThat(admissionController.getAvailableBudget()).isEqualTo(500);
+
+            // a smaller memory keeps the admitted one
+            assertThat(admission.extend(100 * MB, Duration.ofMillis(100))).isTrue();
+            assertThat(admission.getAdmittedMemory()).isEqualTo(500 * MB);
+
+            // extra memory taken by another run, the admission is not extended after the timeout
+            try (SimulationAdmissionController.Admission other = admissionController.admit(400 * MB, RunPriority.NORMAL)) {
+                assertThat(admission.extend(700 * MB, Duration.ofMillis(100))).isFalse();
+                assertThat(admission.getAdmittedMemory()).isEqualTo(500 * MB);
+            }
+        }
+        assertThat(admissionController.getAvailableBudget()).isEqualTo(1000);
+    }
+
+    @Test
+    void testBudgetReservedToHighPriority() throws Exception {
+        SimulationAdmissionController admissionController = new SimulationAdmissionController(DataSize.ofMegabytes(1000), 0.25);
+
+        try (SimulationAdmissionController.Admission normalAdmission = admissionController.admit(700 * MB, RunPriority.NORMAL)) {
+            // the reserved share is not available to normal priority runs
+            assertThat(admissionController.tryAdmit(100 * MB, RunPriority.NORMAL, Duration.ofMillis(100))).isNull();
+            assertThat(admissionController.getAvailableBudget()).isEqualTo(300);
+
+            // but to high priority ones
+            try (SimulationAdmissionController.Admission highAdmission = admissionController.tryAdmit(250 * MB, RunPriority.HIGH, Duration.ofMillis(100))) {
+                assertThat(highAdmission).isNotNull();
+                assertThat(admissionController.getAvailableBudget()).isEqualTo(50);
+            }
+        }
+        assertThat(admissionController.getAvailableBudget()).isEqualTo(1000);
+
+        // a normal priority run over its share is admitted with the share only
+        try (SimulationAdmissionController.Admission normalAdmission = admissionController.admit(5000 * MB, RunPriority.NORMAL)) {
+            assertThat(normalAdmission.getAdmittedMemory()).isEqualTo(750 * MB);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service;
+
+import com.powsybl.iidm.network.Network;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gridsuite.ds.server.service.SimulationCostEstimator.RunSize;
+import org.gridsuite.ds.server.service.cache.NetworkSizeRegistry;
+import org.gridsuite.ds.server.service.contexts.DynamicSimulationRunContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+class SimulationCostEstimatorTest {
+
+    private static final UUID NETWORK_UUID = UUID.randomUUID();
+
+    private NetworkSizeRegistry networkSizeRegistry;
+
+    private NetworkPreloadingService networkPreloadingService;
+
+    private SimulationCostEstimator costEstimator;
+
+    @BeforeEach
+    void setUp() {
+        networkSizeRegistry = new NetworkSizeRegistry(new SimpleMeterRegistry(), Duration.ofMinutes(10), 10);
+        networkPreloadingService = mock(NetworkPreloadingService.class);
+        costEstimator = new SimulationCostEstimator(networkSizeRegistry, networkPreloadingService,
+                DataSize.ofMegabytes(100), DataSize.ofMegabytes(1), DataSize.ofBytes(0), DataSize.ofBytes(0), 100, 0);
+    }
+
+    private static DynamicSimulationRunContext createRunContext(Network network) {
+        DynamicSimulationRunContext runContext = DynamicSimulationRunContext.builder()
+                .networkUuid(NETWORK_UUID)
+                .build();
+        runContext.setNetwork(network);
+        return runContext;
+    }
+
+    @Test
+    void testActualSizeRecorded() {
+        Network network = mock(Network.class);
+        when(network.getGeneratorCount()).thenReturn(10);
+        when(network.getLoadCount()).thenReturn(20);
+
+        RunSize runSize = costEstimator.getActualSize(createRunContext(network));
+
+        assertThat(runSize.equipmentCount()).isEqualTo(30);
+        assertThat(networkSizeRegistry.getEquipmentCount(NETWORK_UUID)).hasValue(30);
+    }
+
+    @Test
+    void testLazyNetworkNotCounted() {
+        Network network = mock(Network.class);
+        when(networkPreloadingService.isLoadedLazily(network)).thenReturn(true);
+
+        // no recorded size, default count
+        assertThat(costEstimator.getActualSize(createRunContext(network)).equipmentCount()).isEqualTo(100);
+
+        // recorded size
+        networkSizeRegistry.recordEquipmentCount(NETWORK_UUID, 1_000_000);
+        assertThat(costEstimator.getActualSize(createRunContext(network)).equipmentCount()).isEqualTo(1_000_000);
+
+        // collections never loaded to be counted
+        verify(network, never()).getGeneratorCount();
+        verify(network, never()).getVoltageLevelCount();
+    }
+}
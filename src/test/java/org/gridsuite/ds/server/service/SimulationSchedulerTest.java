@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gridsuite.computation.service.NotificationService;
+import org.gridsuite.ds.server.dto.RunPriority;
+import org.gridsuite.ds.server.service.cache.NetworkSizeRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.gridsuite.computation.service.NotificationService.*;
+import static org.gridsuite.ds.server.service.DynamicSimulationService.COMPUTATION_TYPE;
+import static org.gridsuite.ds.server.service.SimulationScheduler.*;
+import static org.gridsuite.ds.server.service.contexts.DynamicSimulationResultContext.HEADER_EVENTS;
+import static org.gridsuite.ds.server.service.contexts.DynamicSimulationResultContext.HEADER_MAPPING_ID;
+import static org.gridsuite.ds.server.service.contexts.DynamicSimulationResultContext.HEADER_PRIORITY;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+class SimulationSchedulerTest {
+
+    private static final long MB = DataSize.ofMegabytes(1).toBytes();
+
+    private static final UUID NETWORK_UUID = UUID.randomUUID();
+
+    private StreamBridge streamBridge;
+
+    private NotificationService notificationService;
+
+    private DynamicSimulationResultService resultService;
+
+    private MeterRegistry meterRegistry;
+
+    private SimulationAdmissionController admissionController;
+
+    private SimulationScheduler simulationScheduler;
+
+    @BeforeEach
+    void setUp() {
+        streamBridge = mock(StreamBridge.class);
+        notificationService = mock(NotificationService.class);
+        resultService = mock(DynamicSimulationResultService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        admissionController = new SimulationAdmissionController(DataSize.ofMegabytes(1000), 0.25);
+        // a run on an unknown network is estimated to 100 MB + 100 * 1 MB = 200 MB
+        SimulationCostEstimator costEstimator = new SimulationCostEstimator(new NetworkSizeRegistry(meterRegistry, Duration.ofMinutes(10), 10),
+                mock(NetworkPreloadingService.class), DataSize.ofMegabytes(100), DataSize.ofMegabytes(1), DataSize.ofBytes(0), DataSize.ofBytes(0), 100, 0);
+        // a max wait far above the duration of a test, a run not admitted must not wait for it
+        simulationScheduler = new SimulationScheduler(admissionController, costEstimator, streamBridge, notificationService, resultService,
+                new ObjectMapper(), meterRegistry, Duration.ofMinutes(10), 2);
+    }
+
+    private static Message<String> buildRunMessage(UUID resultUuid) {
+        return buildRunMessage(resultUuid, RunPriority.NORMAL);
+    }
+
+    private static Message<String> buildRunMessage(UUID resultUuid, RunPriority priority) {
+        return MessageBuilder.withPayload("{}")
+                .setHeader(RESULT_UUID_HEADER, resultUuid.toString())
+                .setHeader(NETWORK_UUID_HEADER, NETWORK_UUID.toString())
+                .setHeader(HEADER_PROVIDER, "Dynawo")
+                .setHeader(HEADER_MAPPING_ID, UUID.randomUUID().toString())
+                .setHeader(HEADER_EVENTS, "[]")
+                .setHeader(HEADER_PRIORITY, priority.name())
+                .build();
+    }
+
+    @Test
+    void testRunAdmitted() {
+        AtomicInteger availableBudgetDuringRun = new AtomicInteger();
+
+        simulationScheduler.schedule(buildRunMessage(UUID.randomUUID()), message -> availableBudgetDuringRun.set(admissionController.getAvailableBudget()));
+
+        // the estimated memory is taken during the run only
+        assertThat(availableBudgetDuringRun.get()).isEqualTo(800);
+        assertThat(admissionController.getAvailableBudget()).isEqualTo(1000);
+        assertThat(meterRegistry.get(QUEUE_WAIT_METER_NAME).tag(PRIORITY_TAG_NAME, "NORMAL").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ADMITTED_COST_METER_NAME).summary().totalAmount()).isEqualTo(200 * MB);
+        verifyNoInteractions(streamBridge);
+    }
+
+    @Test
+    void testRunOverBudgetRequeued() throws Exception {
+        Message<String> runMessage = buildRunMessage(UUID.randomUUID());
+        Runnable runConsumer = mock(Runnable.class);
+
+        try (SimulationAdmissionController.Admission admission = admissionController.admit(900 * MB, RunPriority.NORMAL)) {
+            simulationScheduler.schedule(runMessage, message -> runConsumer.run());
+        }
+
+        // not run on this instance, but sent right away to the retry queue of its lane
+        verifyNoInteractions(runConsumer);
+        assertThat(meterRegistry.get(REJECTION_METER_NAME).tag(PRIORITY_TAG_NAME, "NORMAL").counter().count()).isEqualTo(1);
+        ArgumentCaptor<Message<String>> requeuedMessageCaptor = ArgumentCaptor.forClass(Message.class);
+        verify(streamBridge).send(eq(RUN_RETRY_OUTPUT_BINDING), requeuedMessageCaptor.capture());
+        Message<String> requeuedMessage = requeuedMessageCaptor.getValue();
+        assertThat(requeuedMessage.getPayload()).isEqualTo(runMessage.getPayload());
+        assertThat(requeuedMessage.getHeaders()).containsEntry(RESULT_UUID_HEADER, runMessage.getHeaders().get(RESULT_UUID_HEADER))
+                .containsEntry(HEADER_REQUEUE_COUNT, 1)
+                .containsKey(HEADER_QUEUED_AT);
+    }
+
+    @Test
+    void testHighPriorityRunAdmittedInReservedShare() throws Exception {
+        Runnable normalRunConsumer = mock(Runnable.class);
+        Runnable highRunConsumer = mock(Runnable.class);
+
+        // normal priority share used up
+        try (SimulationAdmissionController.Admission admission = admissionController.admit(900 * MB, RunPriority.NORMAL)) {
+            simulationScheduler.schedule(buildRunMessage(UUID.randomUUID(), RunPriority.NORMAL), message -> normalRunConsumer.run());
+            simulationScheduler.schedule(buildRunMessage(UUID.randomUUID(), RunPriority.HIGH), message -> highRunConsumer.run());
+        }
+
+        // the normal run goes back to its lane, the high priority one runs in the reserved share
+        verifyNoInteractions(normalRunConsumer);
+        verify(streamBridge).send(eq(RUN_RETRY_OUTPUT_BINDING), any());
+        verify(highRunConsumer).run();
+        assertThat(meterRegistry.get(QUEUE_WAIT_METER_NAME).tag(PRIORITY_TAG_NAME, "HIGH").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testHighPriorityRunRequeuedInItsLane() throws Exception {
+        Runnable runConsumer = mock(Runnable.class);
+
+        // whole budget used up
+        long startTime = System.nanoTime();
+        try (SimulationAdmissionController.Admission admission = admissionController.admit(1000 * MB, RunPriority.HIGH)) {
+            simulationScheduler.schedule(buildRunMessage(UUID.randomUUID(), RunPriority.HIGH), message -> runConsumer.run());
+        }
+
+        // sent right away to the retry queue of the high priority lane, the lane is not held
+        assertThat(Duration.ofNanos(System.nanoTime() - startTime)).isLessThan(Duration.ofSeconds(5));
+        verifyNoInteractions(runConsumer);
+        verify(streamBridge).send(eq(RUN_HIGH_PRIORITY_RETRY_OUTPUT_BINDING), any());
+        assertThat(meterRegistry.get(REJECTION_METER_NAME).tag(PRIORITY_TAG_NAME, "HIGH").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testRunFailedAfterMaxRequeues() throws Exception {
+        UUID resultUuid = UUID.randomUUID();
+        Message<String> runMessage = MessageBuilder.fromMessage(buildRunMessage(resultUuid))
+                .setHeader(HEADER_REQUEUE_COUNT, 2)
+                .setHeader(HEADER_QUEUED_AT, System.currentTimeMillis())
+                .build();
+
+        Runnable runConsumer = mock(Runnable.class);
+        try (SimulationAdmissionController.Admission admission = admissionController.admit(900 * MB, RunPriority.NORMAL)) {
+            simulationScheduler.schedule(runMessage, message -> runConsumer.run());
+        }
+
+        // neither run nor requeued, the consumer does not wait for the memory
+        verifyNoInteractions(runConsumer);
+        verify(streamBridge, never()).send(any(), any());
+        verify(resultService).delete(resultUuid);
+        verify(notificationService).publishFail(eq(resultUuid), any(), any(), any(), eq(COMPUTATION_TYPE), any());
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service;
+
+import com.powsybl.dynamicsimulation.DynamicSimulationResult;
+import com.powsybl.dynamicsimulation.DynamicSimulationResultImpl;
+import org.gridsuite.ds.server.dto.RunPriority;
+import org.gridsuite.ds.server.dto.SweepRunInfos;
+import org.gridsuite.ds.server.service.SimulationSweepService.Sweep;
+import org.gridsuite.ds.server.service.SimulationSweepService.SweepRunner;
+import org.gridsuite.ds.server.service.contexts.DynamicSimulationResultContext;
+import org.gridsuite.ds.server.service.contexts.DynamicSimulationRunContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.gridsuite.computation.service.NotificationService;
+import org.mockito.ArgumentCaptor;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.gridsuite.ds.server.service.DynamicSimulationService.COMPUTATION_TYPE;
+import static org.gridsuite.ds.server.service.SimulationSweepService.*;
+import static org.gridsuite.ds.server.service.contexts.DynamicSimulationResultContext.HEADER_BATCH_ID;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+class SimulationSweepServiceTest {
+
+    private static final UUID BATCH_ID = UUID.randomUUID();
+
+    private DynamicSimulationResultService resultService;
+
+    private NotificationService notificationService;
+
+    private SimulationAdmissionController admissionController;
+
+    private SimulationSweepService simulationSweepService;
+
+    // results saved and runs cleaned
+    private Set<UUID> savedResultUuids;
+    private Set<UUID> cleanedResultUuids;
+
+    @BeforeEach
+    void setUp() {
+        resultService = mock(DynamicSimulationResultService.class);
+        notificationService = mock(NotificationService.class);
+        // budget of 3 runs of 1 GB
+        admissionController = new SimulationAdmissionController(DataSize.ofGigabytes(3), 0);
+        SimulationCostEstimator costEstimator = mock(SimulationCostEstimator.class);
+        when(costEstimator.estimate(any())).thenReturn(DataSize.ofGigabytes(1).toBytes());
+        simulationSweepService = new SimulationSweepService(resultService, notificationService, admissionController, costEstimator,
+                Duration.ofMillis(100), 1, 2);
+        savedResultUuids = ConcurrentHashMap.newKeySet();
+        cleanedResultUuids = ConcurrentHashMap.newKeySet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulationSweepService.shutdown();
+    }
+
+    private static DynamicSimulationRunContext createRunContext(List<SweepRunInfos> sweepRuns) {
+        DynamicSimulationRunContext runContext = DynamicSimulationRunContext.builder()
+                .networkUuid(UUID.randomUUID())
+                .receiver("receiver")
+                .userId("userId")
+                .build();
+        runContext.setBatchId(BATCH_ID);
+        runContext.setSweepRuns(sweepRuns);
+        return runContext;
+    }
+
+    private SweepRunner createSweepRunner(DynamicSimulationRunContext runContext, Function<UUID, CompletableFuture<DynamicSimulationResult>> runner) {
+        return new SweepRunner() {
+            @Override
+            public DynamicSimulationResultContext prepare(SweepRunInfos sweepRun) {
+                return new DynamicSimulationResultContext(sweepRun.resultUuid(), runContext);
+            }
+
+            @Override
+            public CompletableFuture<DynamicSimulationResult> run(DynamicSimulationResultContext resultContext) {
+                return runner.apply(resultContext.getResultUuid());
+            }
+
+            @Override
+            public void save(DynamicSimulationResultContext resultContext, DynamicSimulationResult result) {
+                savedResultUuids.add(resultContext.getResultUuid());
+            }
+
+            @Override
+            public void clean(DynamicSimulationResultContext resultContext) {
+                cleanedResultUuids.add(resultContext.getResultUuid());
+            }
+        };
+    }
+
+    @Test
+    void testSweepResultsAndProgressPublished() {
+        UUID resultUuid1 = UUID.randomUUID();
+        UUID resultUuid2 = UUID.randomUUID();
+        UUID failedResultUuid = UUID.randomUUID();
+        DynamicSimulationRunContext runContext = createRunContext(List.of(
+                new SweepRunInfos(resultUuid1, List.of()),
+                new SweepRunInfos(failedResultUuid, List.of()),
+                new SweepRunInfos(resultUuid2, List.of())));
+
+        Sweep sweep = simulationSweepService.runSweep(runContext, createSweepRunner(runContext, resultUuid ->
+                failedResultUuid.equals(resultUuid) ?
+                        CompletableFuture.failedFuture(new IllegalStateException("Dynawo failed")) :
+                        CompletableFuture.completedFuture(new DynamicSimulationResultImpl(DynamicSimulationResult.Status.SUCCESS, "", Map.of(), Map.of(), List.of()))));
+        sweep.getFuture().join();
+
+        // every admission given back
+        assertThat(admissionController.getAvailableBudget()).isEqualTo(3 * 1024);
+
+        // each run saved as soon as done, the failed one removed
+        assertThat(savedResultUuids).containsExactlyInAnyOrder(resultUuid1, resultUuid2);
+        assertThat(cleanedResultUuids).containsExactlyInAnyOrder(resultUuid1, resultUuid2, failedResultUuid);
+        verify(resultService).delete(failedResultUuid);
+        verify(resultService, never()).delete(resultUuid1);
+
+        // each run notified as a single run with the progress of the sweep, the carrying run counted in the total
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> resultHeadersCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(notificationService).sendResultMessage(eq(resultUuid1), eq("receiver"), eq("userId"), resultHeadersCaptor.capture());
+        verify(notificationService).sendResultMessage(eq(resultUuid2), eq("receiver"), eq("userId"), resultHeadersCaptor.capture());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> failHeadersCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(notificationService).publishFail(eq(failedResultUuid), eq("receiver"), eq("Dynawo failed"), eq("userId"),
+                eq(COMPUTATION_TYPE), failHeadersCaptor.capture());
+        verify(notificationService, never()).sendResultMessage(eq(failedResultUuid), any(), any(), any());
+
+        List<Map<String, Object>> progressHeaders = new ArrayList<>(resultHeadersCaptor.getAllValues());
+        progressHeaders.addAll(failHeadersCaptor.getAllValues());
+        assertThat(progressHeaders).extracting(headers -> headers.get(HEADER_SWEEP_COMPLETED)).containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(progressHeaders).allSatisfy(headers -> assertThat(headers)
+                .containsEntry(HEADER_SWEEP_TOTAL, 4)
+                .containsEntry(HEADER_BATCH_ID, BATCH_ID.toString()));
+    }
+
+    @Test
+    void testSweepAdmission() throws Exception {
+        UUID resultUuid1 = UUID.randomUUID();
+        UUID resultUuid2 = UUID.randomUUID();
+        DynamicSimulationRunContext runContext = createRunContext(List.of(
+                new SweepRunInfos(resultUuid1, List.of()),
+                new SweepRunInfos(resultUuid2, List.of())));
+
+        // the budget is held by other runs, e.g. the carrying one, each run of the sweep goes on alone
+        try (SimulationAdmissionController.Admission otherRuns = admissionController.admit(DataSize.ofGigabytes(3).toBytes(), RunPriority.NORMAL)) {
+            Sweep sweep = simulationSweepService.runSweep(runContext, createSweepRunner(runContext, resultUuid -> {
+                // admitted while running
+                assertThat(admissionController.getAvailableBudget()).isZero();
+                return CompletableFuture.completedFuture(new DynamicSimulationResultImpl(DynamicSimulationResult.Status.SUCCESS, "", Map.of(), Map.of(), List.of()));
+            }));
+            sweep.getFuture().get(10, TimeUnit.SECONDS);
+            assertThat(savedResultUuids).containsExactlyInAnyOrder(resultUuid1, resultUuid2);
+            assertThat(otherRuns.getAdmittedMemory()).isEqualTo(DataSize.ofGigabytes(3).toBytes());
+        }
+        assertThat(admissionController.getAvailableBudget()).isEqualTo(3 * 1024);
+    }
+
+    @Test
+    void testSweepCancelled() throws Exception {
+        UUID resultUuid1 = UUID.randomUUID();
+        UUID resultUuid2 = UUID.randomUUID();
+        DynamicSimulationRunContext runContext = createRunContext(List.of(
+                new SweepRunInfos(resultUuid1, List.of()),
+                new SweepRunInfos(resultUuid2, List.of())));
+
+        // the first run never ends by itself, the second one waits for a free thread
+        CountDownLatch runStarted = new CountDownLatch(1);
+        Sweep sweep = simulationSweepService.runSweep(runContext, createSweepRunner(runContext, resultUuid -> {
+            runStarted.countDown();
+            return new CompletableFuture<>();
+        }));
+        assertThat(runStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        sweep.cancel();
+        sweep.getFuture().get(10, TimeUnit.SECONDS);
+
+        // results of the cancelled runs are removed, each one notified as stopped
+        assertThat(savedResultUuids).isEmpty();
+        verify(resultService).delete(resultUuid1);
+        verify(resultService).delete(resultUuid2);
+        verify(notificationService).publishStop(resultUuid1, "receiver", COMPUTATION_TYPE);
+        verify(notificationService).publishStop(resultUuid2, "receiver", COMPUTATION_TYPE);
+        verify(notificationService, never()).sendResultMessage(any(), any(), any(), any());
+        assertThat(admissionController.getAvailableBudget()).isEqualTo(3 * 1024);
+    }
+
+    @Test
+    void testSweepRunCancelledAlone() throws Exception {
+        UUID cancelledResultUuid = UUID.randomUUID();
+        UUID resultUuid = UUID.randomUUID();
+        DynamicSimulationRunContext runContext = createRunContext(List.of(
+                new SweepRunInfos(cancelledResultUuid, List.of()),
+                new SweepRunInfos(resultUuid, List.of())));
+
+        // the first run never ends by itself
+        CountDownLatch runStarted = new CountDownLatch(1);
+        Sweep sweep = simulationSweepService.runSweep(runContext, createSweepRunner(runContext, uuid -> {
+            if (cancelledResultUuid.equals(uuid)) {
+                runStarted.countDown();
+                return new CompletableFuture<>();
+            }
+            return CompletableFuture.completedFuture(new DynamicSimulationResultImpl(DynamicSimulationResult.Status.SUCCESS, "", Map.of(), Map.of(), List.of()));
+        }));
+        assertThat(runStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // a cancel request for the result of the run, not for the carrying one
+        assertThat(simulationSweepService.cancel(cancelledResultUuid)).isTrue();
+        sweep.getFuture().get(10, TimeUnit.SECONDS);
+
+        // the other run of the sweep goes on
+        assertThat(savedResultUuids).containsExactly(resultUuid);
+        verify(resultService).delete(cancelledResultUuid);
+        verify(notificationService).publishStop(cancelledResultUuid, "receiver", COMPUTATION_TYPE);
+        verify(notificationService).sendResultMessage(eq(resultUuid), eq("receiver"), eq("userId"), any());
+
+        // done runs are no longer known
+        assertThat(simulationSweepService.cancel(cancelledResultUuid)).isFalse();
+        assertThat(simulationSweepService.cancel(UUID.randomUUID())).isFalse();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service.cache;
+
+import com.powsybl.dynawo.parameters.ParametersSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gridsuite.ds.server.dto.dynamicmapping.InputMapping;
+import org.gridsuite.ds.server.dto.dynamicmapping.ParameterFile;
+import org.gridsuite.ds.server.service.client.dynamicmapping.DynamicMappingClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+class DynamicMappingCacheServiceTest {
+
+    private static final UUID MAPPING_ID = UUID.randomUUID();
+
+    private static final String PAR_CONTENT = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <parametersSet xmlns="http://www.rte-france.com/dynawo">
+                <set id="LAB">
+                    <par type="DOUBLE" name="load_alpha" value="1"/>
+                    <par type="DOUBLE" name="load_beta" value="2"/>
+                </set>
+            </parametersSet>
+            """;
+
+    private DynamicMappingClient dynamicMappingClient;
+
+    private MeterRegistry meterRegistry;
+
+    private DynamicMappingCacheService dynamicMappingCacheService;
+
+    @BeforeEach
+    void setUp() {
+        dynamicMappingClient = mock(DynamicMappingClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        dynamicMappingCacheService = new DynamicMappingCacheService(dynamicMappingClient, meterRegistry, true, Duration.ofMinutes(10), 10);
+
+        when(dynamicMappingClient.getMapping(MAPPING_ID)).thenReturn(new InputMapping(MAPPING_ID, List.of(), List.of()));
+        when(dynamicMappingClient.exportParameters(MAPPING_ID)).thenReturn(new ParameterFile(MAPPING_ID, PAR_CONTENT));
+    }
+
+    @Test
+    void testGetMappingCached() {
+        InputMapping mapping1 = dynamicMappingCacheService.getMapping(MAPPING_ID);
+        InputMapping mapping2 = dynamicMappingCacheService.getMapping(MAPPING_ID);
+
+        assertThat(mapping2).isSameAs(mapping1);
+        verify(dynamicMappingClient, times(1)).getMapping(MAPPING_ID);
+
+        // hits and misses are exposed
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "ds.mapping").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "ds.mapping").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testGetModelsParametersCached() {
+        List<ParametersSet> modelsParameters1 = dynamicMappingCacheService.getModelsParameters(MAPPING_ID);
+        List<ParametersSet> modelsParameters2 = dynamicMappingCacheService.getModelsParameters(MAPPING_ID);
+        ParameterFile parameterFile = dynamicMappingCacheService.exportParameters(MAPPING_ID);
+
+        assertThat(modelsParameters1).hasSize(1);
+        assertThat(modelsParameters1.get(0).getId()).isEqualTo("LAB");
+        assertThat(modelsParameters2).isSameAs(modelsParameters1);
+        assertThat(parameterFile.fileContent()).isEqualTo(PAR_CONTENT);
+        verify(dynamicMappingClient, times(1)).exportParameters(MAPPING_ID);
+
+        // shared list can not be modified
+        assertThatThrownBy(() -> modelsParameters1.add(null)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void testModelsParametersSharedWhileContentUnchanged() {
+        List<ParametersSet> modelsParameters1 = dynamicMappingCacheService.getModelsParameters(MAPPING_ID);
+
+        // fetched again but same content, parsed sets are reused
+        dynamicMappingCacheService.invalidate(MAPPING_ID);
+        List<ParametersSet> modelsParameters2 = dynamicMappingCacheService.getModelsParameters(MAPPING_ID);
+        assertThat(modelsParameters2).isSameAs(modelsParameters1);
+        verify(dynamicMappingClient, times(2)).exportParameters(MAPPING_ID);
+
+        // content changed, parsed again
+        when(dynamicMappingClient.exportParameters(MAPPING_ID)).thenReturn(new ParameterFile(MAPPING_ID, PAR_CONTENT.replace("LAB", "LAB2")));
+        dynamicMappingCacheService.invalidate(MAPPING_ID);
+        List<ParametersSet> modelsParameters3 = dynamicMappingCacheService.getModelsParameters(MAPPING_ID);
+        assertThat(modelsParameters3).isNotSameAs(modelsParameters1);
+        assertThat(modelsParameters3.get(0).getId()).isEqualTo("LAB2");
+
+        // also shared when the per mapping cache is disabled
+        DynamicMappingCacheService disabledCacheService = new DynamicMappingCacheService(dynamicMappingClient, meterRegistry, false, Duration.ofMinutes(10), 10);
+        assertThat(disabledCacheService.getModelsParameters(MAPPING_ID)).isSameAs(disabledCacheService.getModelsParameters(MAPPING_ID));
+    }
+
+    @Test
+    void testInvalidate() {
+        dynamicMappingCacheService.getMapping(MAPPING_ID);
+        dynamicMappingCacheService.getModelsParameters(MAPPING_ID);
+
+        // invalidate by message with mapping id
+        dynamicMappingCacheService.consumeMappingInvalidation().accept(MessageBuilder.withPayload("")
+                .setHeader(DynamicMappingCacheService.HEADER_MAPPING_ID, MAPPING_ID.toString())
+                .build());
+        dynamicMappingCacheService.getMapping(MAPPING_ID);
+        dynamicMappingCacheService.getModelsParameters(MAPPING_ID);
+        verify(dynamicMappingClient, times(2)).getMapping(MAPPING_ID);
+        verify(dynamicMappingClient, times(2)).exportParameters(MAPPING_ID);
+
+        // invalidate all by message without mapping id
+        dynamicMappingCacheService.consumeMappingInvalidation().accept(MessageBuilder.withPayload("").build());
+        dynamicMappingCacheService.getMapping(MAPPING_ID);
+        verify(dynamicMappingClient, times(3)).getMapping(MAPPING_ID);
+    }
+
+    @Test
+    void testDisabled() {
+        DynamicMappingCacheService disabledCacheService = new DynamicMappingCacheService(dynamicMappingClient, meterRegistry, false, Duration.ofMinutes(10), 10);
+
+        disabledCacheService.getMapping(MAPPING_ID);
+        disabledCacheService.getMapping(MAPPING_ID);
+        verify(dynamicMappingClient, times(2)).getMapping(MAPPING_ID);
+    }
+}
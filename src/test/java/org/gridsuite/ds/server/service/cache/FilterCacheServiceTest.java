@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gridsuite.ds.server.service.client.FilterClient;
+import org.gridsuite.filter.AbstractFilter;
+import org.gridsuite.filter.expertfilter.ExpertFilter;
+import org.gridsuite.filter.expertfilter.expertrule.CombinatorExpertRule;
+import org.gridsuite.filter.utils.EquipmentType;
+import org.gridsuite.filter.utils.expertfilter.CombinatorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.gridsuite.ds.server.service.cache.FilterCacheService.LOOKUP_METER_NAME;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+class FilterCacheServiceTest {
+
+    private static final UUID FILTER_ID_1 = UUID.randomUUID();
+    private static final UUID FILTER_ID_2 = UUID.randomUUID();
+
+    private FilterClient filterClient;
+
+    private MeterRegistry meterRegistry;
+
+    private AbstractFilter filter1;
+    private AbstractFilter filter2;
+
+    private static AbstractFilter createFilter(UUID id) {
+        return new ExpertFilter(id, null, EquipmentType.LOAD, CombinatorExpertRule.builder()
+                .combinator(CombinatorType.AND)
+                .rules(List.of())
+                .build());
+    }
+
+    @BeforeEach
+    void setUp() {
+        filterClient = mock(FilterClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        filter1 = createFilter(FILTER_ID_1);
+        filter2 = createFilter(FILTER_ID_2);
+        when(filterClient.getFilters(any())).thenAnswer(invocation -> {
+            List<UUID> ids = invocation.getArgument(0);
+            return List.of(filter1, filter2).stream().filter(filter -> ids.contains(filter.getId())).toList();
+        });
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get(LOOKUP_METER_NAME).tag("result", result).counter().count();
+    }
+
+    @Test
+    void testRequestScope() {
+        FilterCacheService filterCacheService = new FilterCacheService(filterClient, meterRegistry, false, Duration.ofMinutes(1), 10);
+        FilterCacheService.RequestScope requestScope = filterCacheService.createRequestScope();
+
+        // misses are fetched in one call
+        assertThat(requestScope.getFilters(List.of(FILTER_ID_1, FILTER_ID_2))).containsExactly(filter1, filter2);
+        verify(filterClient, times(1)).getFilters(List.of(FILTER_ID_1, FILTER_ID_2));
+
+        // then served by the request scope
+        assertThat(requestScope.getFilters(List.of(FILTER_ID_2))).containsExactly(filter2);
+        verifyNoMoreInteractions(filterClient);
+        assertThat(lookups("miss")).isEqualTo(2);
+        assertThat(lookups("request-hit")).isEqualTo(1);
+
+        // a new request scope fetches again without the process-wide layer
+        filterCacheService.createRequestScope().getFilters(List.of(FILTER_ID_2));
+        verify(filterClient, times(1)).getFilters(List.of(FILTER_ID_2));
+    }
+
+    @Test
+    void testGlobalCache() {
+        FilterCacheService filterCacheService = new FilterCacheService(filterClient, meterRegistry, true, Duration.ofMinutes(1), 10);
+
+        filterCacheService.createRequestScope().getFilters(List.of(FILTER_ID_1));
+
+        // second request only fetches the filter unknown by the process-wide layer
+        assertThat(filterCacheService.createRequestScope().getFilters(List.of(FILTER_ID_1, FILTER_ID_2))).containsExactly(filter1, filter2);
+        verify(filterClient, times(1)).getFilters(List.of(FILTER_ID_1));
+        verify(filterClient, times(1)).getFilters(List.of(FILTER_ID_2));
+        assertThat(lookups("global-hit")).isEqualTo(1);
+        assertThat(lookups("miss")).isEqualTo(2);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service.cache;
+
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.commons.datasource.ResourceDataSource;
+import com.powsybl.commons.datasource.ResourceSet;
+import com.powsybl.iidm.network.Importers;
+import com.powsybl.iidm.network.Network;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+class NetworkSnapshotCacheServiceTest {
+
+    private static final UUID NETWORK_UUID = UUID.randomUUID();
+    private static final String VARIANT_ID = "variant_1";
+
+    private NetworkSnapshotCacheService networkSnapshotCacheService;
+
+    // loads of the network store
+    private AtomicInteger loadCount;
+
+    private Supplier<Network> loader;
+
+    @BeforeEach
+    void setUp() {
+        networkSnapshotCacheService = new NetworkSnapshotCacheService(new SimpleMeterRegistry(), true, Duration.ofMinutes(10), DataSize.ofMegabytes(100));
+        loadCount = new AtomicInteger();
+        loader = () -> {
+            loadCount.incrementAndGet();
+            ReadOnlyDataSource dataSource = new ResourceDataSource("IEEE14", new ResourceSet("", "IEEE14.iidm"));
+            return Importers.importData("XIIDM", dataSource, null);
+        };
+    }
+
+    @Test
+    void testSnapshotSharedBySameStamp() {
+        Network network1 = networkSnapshotCacheService.getNetwork(NETWORK_UUID, VARIANT_ID, "stamp1", loader);
+        Network network2 = networkSnapshotCacheService.getNetwork(NETWORK_UUID, VARIANT_ID, "stamp1", loader);
+        Network network3 = networkSnapshotCacheService.getNetwork(NETWORK_UUID, VARIANT_ID, "stamp1", loader);
+        Network network4 = networkSnapshotCacheService.getNetwork(NETWORK_UUID, VARIANT_ID, "stamp1", loader);
+
+        // not snapshotted on the first request, then loaded once more to be snapshotted,
+        // the next runs get their own copy on the variant of the run
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(network3).isNotSameAs(network4);
+        assertThat(network3.getVariantManager().getWorkingVariantId()).isEqualTo(VARIANT_ID);
+        assertThat(network3.getId()).isEqualTo(network1.getId());
+        assertThat(network3.getGeneratorCount()).isEqualTo(network1.getGeneratorCount());
+
+        // a copy modified by a run leaves the snapshot untouched
+        network3.getGenerators().iterator().next().setTargetP(1234);
+        assertThat(network4.getGenerator(network3.getGenerators().iterator().next().getId()).getTargetP()).isNotEqualTo(1234);
+        assertThat(network2).isNotSameAs(network1);
+    }
+
+    @Test
+    void testSnapshotNotSharedByOtherStamp() {
+        networkSnapshotCacheService.getNetwork(NETWORK_UUID, VARIANT_ID, "stamp1", loader);
+        networkSnapshotCacheService.getNetwork(NETWORK_UUID, VARIANT_ID, "stamp2", loader);
+        networkSnapshotCacheService.getNetwork(NETWORK_UUID, null, "stamp1", loader);
+        assertThat(loadCount.get()).isEqualTo(3);
+
+        // without stamp, always loaded
+        networkSnapshotCacheService.getNetwork(NETWORK_UUID, VARIANT_ID, null, loader);
+        networkSnapshotCacheService.getNetwork(NETWORK_UUID, VARIANT_ID, null, loader);
+        assertThat(loadCount.get()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gridsuite.ds.server.dto.DynamicSimulationParametersInfos;
+import org.gridsuite.ds.server.service.cache.PreparedContextCacheService.PreparedContext;
+import org.gridsuite.ds.server.service.contexts.DynamicSimulationRunContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+class PreparedContextCacheServiceTest {
+
+    private static final UUID NETWORK_UUID = UUID.randomUUID();
+    private static final UUID MAPPING_ID = UUID.randomUUID();
+    private static final String VARIANT_ID = "variant_1";
+
+    private PreparedContextCacheService preparedContextCacheService;
+
+    // preparations of a context
+    private AtomicInteger prepareCount;
+
+    private Supplier<PreparedContext> loader;
+
+    @BeforeEach
+    void setUp() {
+        preparedContextCacheService = new PreparedContextCacheService(new ObjectMapper(), new SimpleMeterRegistry(), true, Duration.ofMinutes(10), 10);
+        prepareCount = new AtomicInteger();
+        loader = () -> {
+            prepareCount.incrementAndGet();
+            return new PreparedContext(List.of(), List.of(), null);
+        };
+    }
+
+    private static DynamicSimulationRunContext createRunContext(UUID batchId, double stopTime) {
+        return createRunContext(batchId, stopTime, null);
+    }
+
+    private static DynamicSimulationRunContext createRunContext(UUID batchId, double stopTime, String networkStamp) {
+        DynamicSimulationRunContext runContext = DynamicSimulationRunContext.builder()
+                .networkUuid(NETWORK_UUID)
+                .variantId(VARIANT_ID)
+                .mappingId(MAPPING_ID)
+                .parameters(DynamicSimulationParametersInfos.builder().startTime(0d).stopTime(stopTime).build())
+                .build();
+        runContext.setBatchId(batchId);
+        runContext.setNetworkStamp(networkStamp);
+        return runContext;
+    }
+
+    @Test
+    void testPreparedContextSharedByBatch() {
+        UUID batchId = UUID.randomUUID();
+        PreparedContext preparedContext1 = preparedContextCacheService.getPreparedContext(createRunContext(batchId, 50d), loader);
+        PreparedContext preparedContext2 = preparedContextCacheService.getPreparedContext(createRunContext(batchId, 50d), loader);
+
+        // prepared once, shared by the next runs of the batch
+        assertThat(prepareCount.get()).isEqualTo(1);
+        assertThat(preparedContext2).isSameAs(preparedContext1);
+    }
+
+    @Test
+    void testFailedPreparationNotShared() {
+        UUID batchId = UUID.randomUUID();
+        Supplier<PreparedContext> failingLoader = () -> {
+            prepareCount.incrementAndGet();
+            throw new IllegalStateException("Mapping server unavailable");
+        };
+        assertThatThrownBy(() -> preparedContextCacheService.getPreparedContext(createRunContext(batchId, 50d), failingLoader))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Mapping server unavailable");
+
+        // the next run of the batch prepares the context again
+        PreparedContext preparedContext = preparedContextCacheService.getPreparedContext(createRunContext(batchId, 50d), loader);
+        assertThat(prepareCount.get()).isEqualTo(2);
+        assertThat(preparedContextCacheService.getPreparedContext(createRunContext(batchId, 50d), loader)).isSameAs(preparedContext);
+        assertThat(prepareCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testPreparedContextNotSharedOutOfBatch() {
+        UUID batchId = UUID.randomUUID();
+        preparedContextCacheService.getPreparedContext(createRunContext(batchId, 50d), loader);
+        // another batch or other parameters
+        preparedContextCacheService.getPreparedContext(createRunContext(UUID.randomUUID(), 50d), loader);
+        preparedContextCacheService.getPreparedContext(createRunContext(batchId, 100d), loader);
+        assertThat(prepareCount.get()).isEqualTo(3);
+
+        // another state of the variant
+        preparedContextCacheService.getPreparedContext(createRunContext(batchId, 50d, "stamp_1"), loader);
+        preparedContextCacheService.getPreparedContext(createRunContext(batchId, 50d, "stamp_1"), loader);
+        preparedContextCacheService.getPreparedContext(createRunContext(batchId, 50d, "stamp_2"), loader);
+        assertThat(prepareCount.get()).isEqualTo(5);
+
+        // a run out of a batch is always prepared
+        preparedContextCacheService.getPreparedContext(createRunContext(null, 50d), loader);
+        preparedContextCacheService.getPreparedContext(createRunContext(null, 50d), loader);
+        assertThat(prepareCount.get()).isEqualTo(7);
+    }
+}
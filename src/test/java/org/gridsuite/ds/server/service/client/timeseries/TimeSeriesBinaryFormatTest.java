@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.ds.server.service.client.timeseries;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.timeseries.IrregularTimeSeriesIndex;
+import com.powsybl.timeseries.TimeSeries;
+import com.powsybl.timeseries.TimeSeriesIndex;
+import com.powsybl.timeseries.json.TimeSeriesJsonModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+class TimeSeriesBinaryFormatTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new TimeSeriesJsonModule());
+
+    @Test
+    void testWriteRead() throws IOException {
+        int pointCount = 5000;
+        long[] times = new long[pointCount];
+        double[] values = new double[pointCount];
+        String[] messages = new String[pointCount];
+        for (int i = 0; i < pointCount; i++) {
+            times[i] = i * 10L;
+            values[i] = Math.sin(i) * 400;
+            messages[i] = i % 3 == 0 ? null : "event " + (i % 7);
+        }
+        TimeSeriesIndex index = new IrregularTimeSeriesIndex(times);
+        List<TimeSeries<?, ?>> timeSeries = List.of(
+                TimeSeries.createDouble("NETWORK__BUS____1_TN_Upu_value", index, values),
+                TimeSeries.createString("timeLine", index, messages));
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        TimeSeriesBinaryFormat.write(os, timeSeries);
+        byte[] binary = os.toByteArray();
+
+        List<TimeSeries<?, ?>> decodedTimeSeries = TimeSeriesBinaryFormat.read(new ByteArrayInputStream(binary));
+
+        // same content as the JSON transport
+        String json = objectMapper.writeValueAsString(timeSeries);
+        assertThat(objectMapper.writeValueAsString(decodedTimeSeries)).isEqualTo(json);
+        // and more compact
+        assertThat(binary).hasSizeLessThan(json.length());
+    }
+}
@@ -20,9 +20,14 @@ import org.gridsuite.ds.server.service.client.timeseries.impl.TimeSeriesClientIm
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.*;
 
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
@@ -69,7 +74,11 @@ public class TimeSeriesClientTest extends AbstractWireMockRestClientTest {
                 // use new WireMockServer(TIME_SERIES_PORT) to test with local server if needed
                 initMockWebServer(new WireMockServer(wireMockConfig().dynamicPort())),
                 restTemplate,
-                objectMapper);
+                objectMapper,
+                true,
+                TimeSeriesClientImpl.DEFAULT_UPLOAD_BATCH_SIZE,
+                false,
+                false);
     }
 
     @Test
@@ -93,6 +102,119 @@ public class TimeSeriesClientTest extends AbstractWireMockRestClientTest {
         assertThat(timeSeriesUuid).isEqualTo(TIME_SERIES_UUID);
     }
 
+    @Test
+    void testSendTimeSeriesWithStreamingInSeveralBatches() throws JsonProcessingException {
+        // streaming upload with a batch size smaller than the number of time series
+        TimeSeriesClient streamingTimeSeriesClient = new TimeSeriesClientImpl(wireMockServer.baseUrl(), restTemplate, objectMapper, true, 1, false, false);
+
+        // prepare time series
+        List<TimeSeries<?, ?>> timeSeries = createTimeSeriesList();
+
+        // mock response for test case POST with url - /timeseries-group
+        String baseUrl = getEndpointUrl();
+
+        wireMockServer.stubFor(WireMock.post(WireMock.urlMatching(baseUrl + ".*"))
+                .willReturn(WireMock.ok()
+                        .withBody(objectMapper.writeValueAsString(new TimeSeriesGroupInfos(TIME_SERIES_UUID)))
+                        .withHeader("Content-Type", "application/json; charset=utf-8")
+                ));
+
+        // test service
+        UUID timeSeriesUuid = streamingTimeSeriesClient.sendTimeSeries(timeSeries).getId();
+
+        // check result
+        assertThat(timeSeriesUuid).isEqualTo(TIME_SERIES_UUID);
+
+        // check the streamed body is the same as the one sent without streaming
+        wireMockServer.verify(1, WireMock.postRequestedFor(WireMock.urlMatching(baseUrl + ".*"))
+                .withRequestBody(WireMock.equalToJson(objectMapper.writeValueAsString(timeSeries))));
+    }
+
+    @Test
+    void testSendTimeSeriesWithoutStreaming() throws JsonProcessingException {
+        TimeSeriesClient nonStreamingTimeSeriesClient = new TimeSeriesClientImpl(wireMockServer.baseUrl(), restTemplate, objectMapper, false, 1, false, false);
+
+        // prepare time series
+        List<TimeSeries<?, ?>> timeSeries = createTimeSeriesList();
+
+        // mock response for test case POST with url - /timeseries-group
+        String baseUrl = getEndpointUrl();
+
+        wireMockServer.stubFor(WireMock.post(WireMock.urlMatching(baseUrl + ".*"))
+                .willReturn(WireMock.ok()
+                        .withBody(objectMapper.writeValueAsString(new TimeSeriesGroupInfos(TIME_SERIES_UUID)))
+                        .withHeader("Content-Type", "application/json; charset=utf-8")
+                ));
+
+        // test service
+        UUID timeSeriesUuid = nonStreamingTimeSeriesClient.sendTimeSeries(timeSeries).getId();
+
+        // check result
+        assertThat(timeSeriesUuid).isEqualTo(TIME_SERIES_UUID);
+        wireMockServer.verify(1, WireMock.postRequestedFor(WireMock.urlMatching(baseUrl + ".*"))
+                .withRequestBody(WireMock.equalToJson(objectMapper.writeValueAsString(timeSeries))));
+    }
+
+    @Test
+    void testSendTimeSeriesWithBinary() throws IOException {
+        TimeSeriesClient binaryTimeSeriesClient = new TimeSeriesClientImpl(wireMockServer.baseUrl(), restTemplate, objectMapper, true, 1, true, false);
+
+        // prepare time series
+        List<TimeSeries<?, ?>> timeSeries = createTimeSeriesList();
+
+        // mock response for test case POST with url - /timeseries-group, the stand-in server accepts the binary content type
+        String baseUrl = getEndpointUrl();
+
+        wireMockServer.stubFor(WireMock.post(WireMock.urlMatching(baseUrl + ".*"))
+                .withHeader(HttpHeaders.CONTENT_TYPE, WireMock.equalTo(TimeSeriesBinaryFormat.CONTENT_TYPE))
+                .willReturn(WireMock.ok()
+                        .withBody(objectMapper.writeValueAsString(new TimeSeriesGroupInfos(TIME_SERIES_UUID)))
+                        .withHeader("Content-Type", "application/json; charset=utf-8")
+                ));
+
+        // test service
+        UUID timeSeriesUuid = binaryTimeSeriesClient.sendTimeSeries(timeSeries).getId();
+
+        // check result
+        assertThat(timeSeriesUuid).isEqualTo(TIME_SERIES_UUID);
+
+        // check the binary body decodes to the sent time series
+        byte[] body = wireMockServer.getAllServeEvents().get(0).getRequest().getBody();
+        List<TimeSeries<?, ?>> decodedTimeSeries = TimeSeriesBinaryFormat.read(new ByteArrayInputStream(body));
+        assertThat(objectMapper.writeValueAsString(decodedTimeSeries)).isEqualTo(objectMapper.writeValueAsString(timeSeries));
+    }
+
+    @Test
+    void testSendTimeSeriesWithBinaryGivenUnsupportedMediaType() throws JsonProcessingException {
+        TimeSeriesClient binaryTimeSeriesClient = new TimeSeriesClientImpl(wireMockServer.baseUrl(), restTemplate, objectMapper, true, 1, true, true);
+
+        // prepare time series
+        List<TimeSeries<?, ?>> timeSeries = createTimeSeriesList();
+
+        // mock responses for test case POST with url - /timeseries-group, the stand-in server only accepts JSON
+        String baseUrl = getEndpointUrl();
+
+        wireMockServer.stubFor(WireMock.post(WireMock.urlMatching(baseUrl + ".*"))
+                .withHeader(HttpHeaders.CONTENT_TYPE, WireMock.equalTo(TimeSeriesBinaryFormat.CONTENT_TYPE))
+                .willReturn(WireMock.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE.value())));
+        wireMockServer.stubFor(WireMock.post(WireMock.urlMatching(baseUrl + ".*"))
+                .withHeader(HttpHeaders.CONTENT_TYPE, WireMock.containing(MediaType.APPLICATION_JSON_VALUE))
+                .willReturn(WireMock.ok()
+                        .withBody(objectMapper.writeValueAsString(new TimeSeriesGroupInfos(TIME_SERIES_UUID)))
+                        .withHeader("Content-Type", "application/json; charset=utf-8")
+                ));
+
+        // test service twice
+        assertThat(binaryTimeSeriesClient.sendTimeSeries(timeSeries).getId()).isEqualTo(TIME_SERIES_UUID);
+        assertThat(binaryTimeSeriesClient.sendTimeSeries(timeSeries).getId()).isEqualTo(TIME_SERIES_UUID);
+
+        // check binary has been tried only once then JSON is used
+        wireMockServer.verify(1, WireMock.postRequestedFor(WireMock.urlMatching(baseUrl + ".*"))
+                .withHeader(HttpHeaders.CONTENT_TYPE, WireMock.equalTo(TimeSeriesBinaryFormat.CONTENT_TYPE)));
+        wireMockServer.verify(2, WireMock.postRequestedFor(WireMock.urlMatching(baseUrl + ".*"))
+                .withHeader(HttpHeaders.CONTENT_TYPE, WireMock.containing(MediaType.APPLICATION_JSON_VALUE)));
+    }
+
     @Test
     void testSendTimeSeriesGivenException() {
         // prepare time series
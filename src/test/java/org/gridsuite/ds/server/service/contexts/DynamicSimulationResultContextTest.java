@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service.contexts;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.gridsuite.computation.dto.ReportInfos;
+import org.gridsuite.ds.server.controller.utils.ParameterTestUtils;
+import org.gridsuite.ds.server.dto.DynamicSimulationParametersInfos;
+import org.gridsuite.ds.server.dto.SweepRunInfos;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+class DynamicSimulationResultContextTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testSweepRunsInPayload() {
+        DynamicSimulationRunContext runContext = DynamicSimulationRunContext.builder()
+                .networkUuid(UUID.randomUUID())
+                .variantId("variant_1")
+                .receiver("receiver")
+                .provider("Dynawo")
+                .mappingId(UUID.randomUUID())
+                .reportInfos(ReportInfos.builder().build())
+                .userId("userId")
+                .parameters(DynamicSimulationParametersInfos.builder().startTime(0d).stopTime(50d).build())
+                .debug(false)
+                .build();
+        runContext.setEvents(List.of());
+        runContext.setBatchId(UUID.randomUUID());
+        // a sweep far above the size of a frame of the broker once in headers
+        List<SweepRunInfos> sweepRuns = IntStream.range(0, 1000)
+                .mapToObj(i -> new SweepRunInfos(UUID.randomUUID(), ParameterTestUtils.getEventInfosList()))
+                .toList();
+        runContext.setSweepRuns(sweepRuns);
+        UUID resultUuid = UUID.randomUUID();
+
+        Message<String> message = new DynamicSimulationResultContext(resultUuid, runContext).toRunMessage(objectMapper);
+
+        // the sweep runs are in the payload only
+        assertThat(message.getHeaders().values()).allSatisfy(value -> assertThat(String.valueOf(value)).hasSizeLessThan(4096));
+
+        DynamicSimulationResultContext resultContext = DynamicSimulationResultContext.fromMessage(message, objectMapper);
+        assertThat(resultContext.getResultUuid()).isEqualTo(resultUuid);
+        assertThat(resultContext.getRunContext().getBatchId()).isEqualTo(runContext.getBatchId());
+        assertThat(resultContext.getRunContext().getParameters().getStopTime()).isEqualTo(50d);
+        assertThat(resultContext.getRunContext().getSweepRuns()).hasSize(sweepRuns.size())
+                .extracting(SweepRunInfos::resultUuid)
+                .containsExactlyElementsOf(sweepRuns.stream().map(SweepRunInfos::resultUuid).toList());
+        assertThat(resultContext.getRunContext().getSweepRuns().get(0).events()).hasSize(ParameterTestUtils.getEventInfosList().size());
+    }
+}
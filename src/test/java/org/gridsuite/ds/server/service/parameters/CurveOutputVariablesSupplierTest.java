@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.service.parameters;
+
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.commons.datasource.ResourceDataSource;
+import com.powsybl.commons.datasource.ResourceSet;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.dynamicsimulation.OutputVariable;
+import com.powsybl.dynamicsimulation.groovy.GroovyExtension;
+import com.powsybl.dynamicsimulation.groovy.GroovyOutputVariablesSupplier;
+import com.powsybl.dynamicsimulation.groovy.OutputVariableGroovyExtension;
+import com.powsybl.dynawo.DynawoSimulationProvider;
+import com.powsybl.iidm.network.Importers;
+import com.powsybl.iidm.network.Network;
+import org.gridsuite.ds.server.controller.utils.ParameterTestUtils;
+import org.gridsuite.ds.server.dto.curve.CurveInfos;
+import org.gridsuite.ds.server.service.parameters.impl.CurveGroovyGeneratorServiceImpl;
+import org.gridsuite.ds.server.utils.EquipmentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+class CurveOutputVariablesSupplierTest {
+
+    private record OutputVariableKey(String modelId, String variableName, OutputVariable.OutputType outputType) {
+    }
+
+    private Network network;
+
+    @BeforeEach
+    void setUp() {
+        ReadOnlyDataSource dataSource = new ResourceDataSource("IEEE14", new ResourceSet("", "IEEE14.iidm"));
+        network = Importers.importData("XIIDM", dataSource, null);
+    }
+
+    @Test
+    void testSameOutputVariablesAsGroovy() {
+        List<CurveInfos> curves = new ArrayList<>(ParameterTestUtils.getCurveInfosList());
+        // static equipment and interleaved equipment ids
+        curves.add(new CurveInfos(null, EquipmentType.BUS, "_BUS____1_TN", "Upu_value"));
+        curves.add(new CurveInfos(null, EquipmentType.LOAD, "_LOAD___2_EC", "load_PRefPu"));
+
+        assertThat(getNativeOutputVariables(curves)).isNotEmpty()
+                .containsExactlyElementsOf(getGroovyOutputVariables(curves));
+    }
+
+    @Test
+    void testCompiledGroovySameOutputVariablesAsGroovy() {
+        List<CurveInfos> curves = ParameterTestUtils.getCurveInfosList();
+        String script = new CurveGroovyGeneratorServiceImpl(100).generate(curves);
+        CompiledGroovyOutputVariablesSupplier compiledSupplier = new CompiledGroovyOutputVariablesSupplier(script,
+                GroovyExtension.find(OutputVariableGroovyExtension.class, DynawoSimulationProvider.NAME));
+
+        // the script compiled once is evaluated again for each call
+        List<OutputVariableKey> groovyOutputVariables = getGroovyOutputVariables(curves);
+        assertThat(toKeys(compiledSupplier.get(network, ReportNode.NO_OP))).isNotEmpty()
+                .containsExactlyElementsOf(groovyOutputVariables);
+        assertThat(toKeys(compiledSupplier.get(network, ReportNode.NO_OP))).containsExactlyElementsOf(groovyOutputVariables);
+    }
+
+    @Test
+    void testEmptyCurves() {
+        assertThat(getNativeOutputVariables(List.of())).isEmpty();
+        assertThat(getGroovyOutputVariables(List.of())).isEmpty();
+    }
+
+    private List<OutputVariableKey> getNativeOutputVariables(List<CurveInfos> curves) {
+        return toKeys(new CurveOutputVariablesSupplier(curves).get(network, ReportNode.NO_OP));
+    }
+
+    private List<OutputVariableKey> getGroovyOutputVariables(List<CurveInfos> curves) {
+        String script = new CurveGroovyGeneratorServiceImpl(100).generate(curves);
+        GroovyOutputVariablesSupplier groovySupplier = new GroovyOutputVariablesSupplier(
+                new ByteArrayInputStream(script.getBytes(StandardCharsets.UTF_8)),
+                GroovyExtension.find(OutputVariableGroovyExtension.class, DynawoSimulationProvider.NAME));
+        return toKeys(groovySupplier.get(network, ReportNode.NO_OP));
+    }
+
+    private static List<OutputVariableKey> toKeys(List<OutputVariable> outputVariables) {
+        return outputVariables.stream()
+                .map(outputVariable -> new OutputVariableKey(outputVariable.getModelId(), outputVariable.getVariableName(), outputVariable.getOutputType()))
+                .toList();
+    }
+}
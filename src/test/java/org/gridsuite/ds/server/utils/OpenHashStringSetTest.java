@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+class OpenHashStringSetTest {
+
+    @Test
+    void testAddContains() {
+        OpenHashStringSet set = new OpenHashStringSet();
+        assertThat(set.isEmpty()).isTrue();
+
+        // enough ids to trigger several rehashes
+        int count = 10_000;
+        for (int i = 0; i < count; i++) {
+            assertThat(set.add("GEN_" + i)).isTrue();
+        }
+        assertThat(set.size()).isEqualTo(count);
+
+        for (int i = 0; i < count; i++) {
+            assertThat(set.contains("GEN_" + i)).isTrue();
+            // already present
+            assertThat(set.add("GEN_" + i)).isFalse();
+        }
+        assertThat(set.size()).isEqualTo(count);
+        assertThat(set.contains("LOAD_0")).isFalse();
+        assertThat(set.contains("GEN_" + count)).isFalse();
+    }
+
+    @Test
+    void testExpectedSize() {
+        OpenHashStringSet set = new OpenHashStringSet(3);
+        assertThat(set.add("")).isTrue();
+        assertThat(set.add("a")).isTrue();
+        assertThat(set.add("a")).isFalse();
+        assertThat(set.size()).isEqualTo(2);
+    }
+}
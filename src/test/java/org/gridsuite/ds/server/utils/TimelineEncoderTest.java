@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.dynamicsimulation.TimelineEvent;
+import com.powsybl.timeseries.StringTimeSeries;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+class TimelineEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testEncodeSameAsJackson() throws Exception {
+        List<TimelineEvent> timeline = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            timeline.add(new TimelineEvent(i * 0.5, "GEN____" + (i % 5) + "_SM", "PMIN : activation"));
+        }
+        timeline.add(new TimelineEvent(1.0E-4, "LOAD \"quoted\"\t", "é\\ \u0001 message"));
+        timeline.add(new TimelineEvent(150, null, null));
+
+        StringTimeSeries timeSeries = TimelineEncoder.encode("timeLine", timeline);
+
+        assertThat(timeSeries.getMetadata().getName()).isEqualTo("timeLine");
+        String[] values = timeSeries.toArray();
+        assertThat(values).hasSize(timeline.size());
+        for (int i = 0; i < timeline.size(); i++) {
+            TimelineEvent event = timeline.get(i);
+            assertThat(values[i]).isEqualTo(objectMapper.writeValueAsString(event));
+            assertThat(timeSeries.getMetadata().getIndex().getTimeAt(i)).isEqualTo((long) event.time());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.ds.server.utils;
+
+import com.powsybl.dynawo.parameters.ParameterType;
+import com.powsybl.dynawo.parameters.ParametersSet;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+class UtilsTest {
+
+    @Test
+    void testCopyParametersSet() {
+        ParametersSet parametersSet = new ParametersSet("GEN");
+        parametersSet.addParameter("generator_KGover", ParameterType.DOUBLE, "1");
+        parametersSet.addReference("generator_PNom", ParameterType.DOUBLE, "IIDM", "pMax", null);
+
+        ParametersSet copy = Utils.copyParametersSet(parametersSet);
+        assertThat(copy).isNotSameAs(parametersSet);
+        assertThat(copy.getId()).isEqualTo(parametersSet.getId());
+        assertThat(copy.getParameters()).isEqualTo(parametersSet.getParameters());
+        assertThat(copy.getReferences()).isEqualTo(parametersSet.getReferences());
+
+        // a run modifying its copy leaves the shared parameters set unchanged
+        copy.replaceParameter("generator_KGover", ParameterType.DOUBLE, "2");
+        copy.addParameter("generator_UNom", ParameterType.DOUBLE, "24");
+        assertThat(parametersSet.getDouble("generator_KGover")).isEqualTo(1);
+        assertThat(parametersSet.getParameters()).doesNotContainKey("generator_UNom");
+    }
+}